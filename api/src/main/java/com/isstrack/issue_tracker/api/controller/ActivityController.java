@@ -9,6 +9,8 @@ import com.isstrack.issue_tracker.api.dto.ActivityDto;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
 import com.isstrack.issue_tracker.domain.security.CurrentUser;
 import com.isstrack.issue_tracker.domain.service.ActivityQueryService;
+import com.isstrack.issue_tracker.domain.service.UserSummaryService;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,20 +22,29 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/issues/{issueId}/activity")
 public class ActivityController {
   private final ActivityQueryService activityQueryService;
+  private final UserSummaryService userSummaryService;
 
-  public ActivityController(ActivityQueryService activityQueryService) {
+  public ActivityController(ActivityQueryService activityQueryService, UserSummaryService userSummaryService) {
     this.activityQueryService = activityQueryService;
+    this.userSummaryService = userSummaryService;
   }
 
   @GetMapping
   public PageResponse<ActivityDto> listActivity(
       @PathVariable long issueId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String include
   ) {
     long userId = CurrentUser.requireUserId();
     Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(page, size);
-    return activityQueryService.listActivity(userId, issueId, pageable);
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    var activity = activityQueryService.listActivity(userId, issueId, pageable, countMode);
+    if (UserSummaryService.includesUsers(include)) {
+      return userSummaryService.withUsers(activity, entry -> Stream.of(entry.actorUserId()));
+    }
+    return activity;
   }
 }
 
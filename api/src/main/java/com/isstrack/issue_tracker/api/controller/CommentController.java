@@ -11,7 +11,9 @@ import com.isstrack.issue_tracker.api.dto.PageResponse;
 import com.isstrack.issue_tracker.api.dto.UpdateCommentRequest;
 import com.isstrack.issue_tracker.domain.security.CurrentUser;
 import com.isstrack.issue_tracker.domain.service.CommentService;
+import com.isstrack.issue_tracker.domain.service.UserSummaryService;
 import jakarta.validation.Valid;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,9 +29,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/issues/{issueId}/comments")
 public class CommentController {
   private final CommentService commentService;
+  private final UserSummaryService userSummaryService;
 
-  public CommentController(CommentService commentService) {
+  public CommentController(CommentService commentService, UserSummaryService userSummaryService) {
     this.commentService = commentService;
+    this.userSummaryService = userSummaryService;
   }
 
   @PostMapping
@@ -42,11 +46,18 @@ public class CommentController {
   public PageResponse<CommentDto> listComments(
       @PathVariable long issueId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String include
   ) {
     long userId = CurrentUser.requireUserId();
     Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(page, size);
-    return commentService.listComments(userId, issueId, pageable);
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    var comments = commentService.listComments(userId, issueId, pageable, countMode);
+    if (UserSummaryService.includesUsers(include)) {
+      return userSummaryService.withUsers(comments, comment -> Stream.of(comment.authorUserId()));
+    }
+    return comments;
   }
 
   @PutMapping("/{commentId}")
@@ -5,19 +5,36 @@
  */
 package com.isstrack.issue_tracker.api.controller;
 
+import com.isstrack.issue_tracker.api.dto.BoardDto;
+import com.isstrack.issue_tracker.api.dto.BulkCreateIssuesRequest;
 import com.isstrack.issue_tracker.api.dto.CreateIssueRequest;
 import com.isstrack.issue_tracker.api.dto.IssueDetailDto;
 import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.IssueFilterParams;
+import com.isstrack.issue_tracker.api.dto.IssueSearchResultDto;
+import com.isstrack.issue_tracker.api.dto.IssueStatsDto;
+import com.isstrack.issue_tracker.api.dto.IssueSuggestionDto;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
 import com.isstrack.issue_tracker.api.dto.PatchIssueRequest;
+import com.isstrack.issue_tracker.api.dto.TimelineEntryDto;
 import com.isstrack.issue_tracker.domain.security.CurrentUser;
+import com.isstrack.issue_tracker.domain.service.ExportFormat;
 import com.isstrack.issue_tracker.domain.service.IssueDetailService;
+import com.isstrack.issue_tracker.domain.service.IssueExportService;
 import com.isstrack.issue_tracker.domain.service.IssueQueryService;
 import com.isstrack.issue_tracker.domain.service.IssueService;
+import com.isstrack.issue_tracker.domain.service.IssueStatsService;
+import com.isstrack.issue_tracker.domain.service.IssueTimelineService;
+import com.isstrack.issue_tracker.domain.service.UserSummaryService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,6 +42,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @RestController
 @RequestMapping("/api")
@@ -32,15 +51,27 @@ public class IssueController {
   private final IssueService issueService;
   private final IssueQueryService issueQueryService;
   private final IssueDetailService issueDetailService;
+  private final IssueStatsService issueStatsService;
+  private final IssueExportService issueExportService;
+  private final UserSummaryService userSummaryService;
+  private final IssueTimelineService issueTimelineService;
 
   public IssueController(
       IssueService issueService,
       IssueQueryService issueQueryService,
-      IssueDetailService issueDetailService
+      IssueDetailService issueDetailService,
+      IssueStatsService issueStatsService,
+      IssueExportService issueExportService,
+      UserSummaryService userSummaryService,
+      IssueTimelineService issueTimelineService
   ) {
     this.issueService = issueService;
     this.issueQueryService = issueQueryService;
     this.issueDetailService = issueDetailService;
+    this.issueStatsService = issueStatsService;
+    this.issueExportService = issueExportService;
+    this.userSummaryService = userSummaryService;
+    this.issueTimelineService = issueTimelineService;
   }
 
   @PostMapping("/projects/{projectId}/issues")
@@ -52,26 +83,155 @@ public class IssueController {
     return issueService.createIssue(userId, projectId, request);
   }
 
+  @PostMapping("/projects/{projectId}/issues/bulk")
+  public List<IssueDto> createIssues(
+      @PathVariable long projectId,
+      @Valid @RequestBody BulkCreateIssuesRequest request
+  ) {
+    long userId = CurrentUser.requireUserId();
+    return issueService.createIssues(userId, projectId, request.issues());
+  }
+
   @GetMapping("/projects/{projectId}/issues")
   public PageResponse<IssueDto> listIssues(
       @PathVariable long projectId,
-      @RequestParam(required = false) String status,
-      @RequestParam(required = false) String priority,
-      @RequestParam(required = false) Long assigneeId,
-      @RequestParam(required = false) String tag,
-      @RequestParam(required = false, name = "q") String query,
+      @ModelAttribute IssueFilterParams filterParams,
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size,
-      @RequestParam(required = false) String sort
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String include,
+      ServletWebRequest webRequest
   ) {
     long userId = CurrentUser.requireUserId();
+    boolean embedUsers = UserSummaryService.includesUsers(include);
+    var etag = issueQueryService.listIssuesEtag(userId, projectId);
+    if (embedUsers) {
+      etag = userSummaryService.usersTag(etag);
+    }
+    if (com.isstrack.issue_tracker.util.ConditionalRequests.notModified(webRequest, etag)) {
+      return null;
+    }
     var sortOrder = com.isstrack.issue_tracker.util.SortValidator.validateOrDefault(
         sort,
         java.util.Set.of("updatedAt", "createdAt", "title"),
         Sort.by("updatedAt").descending()
     );
     Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(page, size, sortOrder);
-    return issueQueryService.listIssues(userId, projectId, status, priority, assigneeId, tag, query, pageable);
+    var filter = filterParams.toFilter();
+    PageResponse<IssueDto> issues;
+    if (cursor != null) {
+      issues = issueQueryService.listIssuesByCursor(
+          userId,
+          projectId,
+          filter,
+          sortOrder,
+          cursor,
+          pageable.getPageSize()
+      );
+    } else {
+      var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+      issues = issueQueryService.listIssues(
+          userId,
+          projectId,
+          filter,
+          pageable,
+          countMode
+      );
+    }
+    if (embedUsers) {
+      return userSummaryService.withUsers(issues, issue -> Stream.of(issue.ownerUserId(), issue.assigneeUserId()));
+    }
+    return issues;
+  }
+
+  @GetMapping("/projects/{projectId}/issues/export")
+  public WebAsyncTask<Void> exportIssues(
+      @PathVariable long projectId,
+      @RequestParam(defaultValue = "ndjson") String format,
+      @ModelAttribute IssueFilterParams filterParams,
+      HttpServletResponse response
+  ) {
+    long userId = CurrentUser.requireUserId();
+    var exportFormat = ExportFormat.parse(format);
+    var filter = filterParams.toFilter();
+    var body = issueExportService.exportIssues(userId, projectId, filter, exportFormat);
+    response.setContentType(exportFormat.mediaType().toString());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"issues-" + projectId + "." + exportFormat.extension() + "\""
+    );
+    return issueExportService.stream(body, response);
+  }
+
+  @GetMapping("/projects/{projectId}/board")
+  public BoardDto board(
+      @PathVariable long projectId,
+      @ModelAttribute IssueFilterParams filterParams,
+      @RequestParam(required = false) List<String> cursor,
+      @RequestParam(defaultValue = "20") int limit,
+      ServletWebRequest webRequest
+  ) {
+    long userId = CurrentUser.requireUserId();
+    var etag = issueQueryService.listIssuesEtag(userId, projectId);
+    if (com.isstrack.issue_tracker.util.ConditionalRequests.notModified(webRequest, etag)) {
+      return null;
+    }
+    var filter = filterParams.toFilter();
+    return issueQueryService.board(
+        userId,
+        projectId,
+        filter,
+        cursor == null ? List.of() : cursor,
+        Math.max(1, Math.min(limit, 100))
+    );
+  }
+
+  @GetMapping("/projects/{projectId}/issues/search")
+  public PageResponse<IssueSearchResultDto> searchIssues(
+      @PathVariable long projectId,
+      @RequestParam(name = "q") String text,
+      @ModelAttribute IssueFilterParams filterParams,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count
+  ) {
+    long userId = CurrentUser.requireUserId();
+    Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(page, size);
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    var filter = filterParams.toSearchFilter();
+    return issueQueryService.searchIssues(
+        userId,
+        projectId,
+        text,
+        filter,
+        pageable,
+        countMode
+    );
+  }
+
+  @GetMapping("/projects/{projectId}/issues/suggest")
+  public List<IssueSuggestionDto> suggestIssues(
+      @PathVariable long projectId,
+      @RequestParam(name = "q") String text,
+      @RequestParam(defaultValue = "10") int limit
+  ) {
+    long userId = CurrentUser.requireUserId();
+    return issueQueryService.suggestIssues(userId, projectId, text, Math.max(1, Math.min(limit, 50)));
+  }
+
+  @GetMapping("/projects/{projectId}/issues/stats")
+  public IssueStatsDto issueStats(
+      @PathVariable long projectId,
+      ServletWebRequest webRequest
+  ) {
+    long userId = CurrentUser.requireUserId();
+    var etag = issueStatsService.statsEtag(userId, projectId);
+    if (com.isstrack.issue_tracker.util.ConditionalRequests.notModified(webRequest, etag)) {
+      return null;
+    }
+    return issueStatsService.stats(userId, projectId);
   }
 
   @GetMapping("/issues/{issueId}")
@@ -80,9 +240,19 @@ public class IssueController {
       @RequestParam(defaultValue = "0") int commentsPage,
       @RequestParam(defaultValue = "20") int commentsSize,
       @RequestParam(defaultValue = "0") int activityPage,
-      @RequestParam(defaultValue = "20") int activitySize
+      @RequestParam(defaultValue = "20") int activitySize,
+      @RequestParam(required = false) String include,
+      ServletWebRequest webRequest
   ) {
     long userId = CurrentUser.requireUserId();
+    boolean embedUsers = UserSummaryService.includesUsers(include);
+    var etag = issueDetailService.issueDetailEtag(userId, issueId);
+    if (embedUsers) {
+      etag = userSummaryService.usersTag(etag);
+    }
+    if (com.isstrack.issue_tracker.util.ConditionalRequests.notModified(webRequest, etag)) {
+      return null;
+    }
     Pageable comments = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(
         commentsPage,
         commentsSize
@@ -91,7 +261,24 @@ public class IssueController {
         activityPage,
         activitySize
     );
-    return issueDetailService.getIssueDetail(userId, issueId, comments, activity);
+    var detail = issueDetailService.getIssueDetail(userId, issueId, comments, activity);
+    return embedUsers ? userSummaryService.withUsers(detail) : detail;
+  }
+
+  @GetMapping("/issues/{issueId}/timeline")
+  public PageResponse<TimelineEntryDto> getTimeline(
+      @PathVariable long issueId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "20") int limit,
+      @RequestParam(required = false) String include
+  ) {
+    long userId = CurrentUser.requireUserId();
+    var timeline = issueTimelineService.timeline(userId, issueId, cursor, since, Math.max(1, Math.min(limit, 100)));
+    if (UserSummaryService.includesUsers(include)) {
+      return userSummaryService.withUsers(timeline, entry -> Stream.of(entry.userId()));
+    }
+    return timeline;
   }
 
   @PatchMapping("/issues/{issueId}")
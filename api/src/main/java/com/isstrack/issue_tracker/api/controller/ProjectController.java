@@ -10,10 +10,14 @@ import com.isstrack.issue_tracker.api.dto.CreateProjectRequest;
 import com.isstrack.issue_tracker.api.dto.InviteMemberRequest;
 import com.isstrack.issue_tracker.api.dto.MembershipDto;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.ProjectChangesDto;
 import com.isstrack.issue_tracker.api.dto.ProjectDto;
 import com.isstrack.issue_tracker.domain.security.CurrentUser;
+import com.isstrack.issue_tracker.domain.service.ProjectChangeFeedService;
 import com.isstrack.issue_tracker.domain.service.ProjectService;
+import com.isstrack.issue_tracker.domain.service.UserSummaryService;
 import jakarta.validation.Valid;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,14 +27,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
   private final ProjectService projectService;
+  private final UserSummaryService userSummaryService;
+  private final ProjectChangeFeedService changeFeedService;
 
-  public ProjectController(ProjectService projectService) {
+  public ProjectController(
+      ProjectService projectService,
+      UserSummaryService userSummaryService,
+      ProjectChangeFeedService changeFeedService
+  ) {
     this.projectService = projectService;
+    this.userSummaryService = userSummaryService;
+    this.changeFeedService = changeFeedService;
   }
 
   @PostMapping
@@ -42,15 +55,22 @@ public class ProjectController {
   @GetMapping
   public PageResponse<ProjectDto> listProjects(
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      ServletWebRequest webRequest
   ) {
     long userId = CurrentUser.requireUserId();
+    var etag = projectService.listMyProjectsEtag(userId);
+    if (com.isstrack.issue_tracker.util.ConditionalRequests.notModified(webRequest, etag)) {
+      return null;
+    }
     Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(
         page,
         size,
         Sort.by("createdAt").descending()
     );
-    return projectService.listMyProjects(userId, pageable);
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    return projectService.listMyProjects(userId, pageable, countMode);
   }
 
   @GetMapping("/{projectId}")
@@ -72,7 +92,9 @@ public class ProjectController {
   public PageResponse<MembershipDto> listMembers(
       @PathVariable long projectId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String include
   ) {
     long userId = CurrentUser.requireUserId();
     Pageable pageable = com.isstrack.issue_tracker.domain.service.PaginationHelper.page(
@@ -80,7 +102,23 @@ public class ProjectController {
         size,
         Sort.by("createdAt").descending()
     );
-    return projectService.listMembers(userId, projectId, pageable);
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    var members = projectService.listMembers(userId, projectId, pageable, countMode);
+    if (UserSummaryService.includesUsers(include)) {
+      return userSummaryService.withUsers(members, member -> Stream.of(member.userId()));
+    }
+    return members;
+  }
+
+  @GetMapping("/{projectId}/changes")
+  public ProjectChangesDto listChanges(
+      @PathVariable long projectId,
+      @RequestParam(required = false) Long since,
+      @RequestParam(defaultValue = "200") int limit
+  ) {
+    long userId = CurrentUser.requireUserId();
+    int safeLimit = Math.max(1, Math.min(limit, 500));
+    return changeFeedService.changes(userId, projectId, since, safeLimit);
   }
 
   @PostMapping("/invites/accept")
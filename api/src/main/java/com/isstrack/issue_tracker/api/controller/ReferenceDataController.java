@@ -0,0 +1,31 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.controller;
+
+import com.isstrack.issue_tracker.api.dto.GenericOkResponse;
+import com.isstrack.issue_tracker.domain.service.ReferenceDataRegistry;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/reference-data")
+public class ReferenceDataController {
+  private final ReferenceDataRegistry referenceData;
+
+  public ReferenceDataController(ReferenceDataRegistry referenceData) {
+    this.referenceData = referenceData;
+  }
+
+  @PostMapping("/refresh")
+  @PreAuthorize("hasRole('ADMIN')")
+  public GenericOkResponse refresh() {
+    referenceData.refresh();
+    return GenericOkResponse.success();
+  }
+}
+
@@ -0,0 +1,67 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.controller;
+
+import com.isstrack.issue_tracker.api.dto.CreateSavedViewRequest;
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.SavedViewDto;
+import com.isstrack.issue_tracker.domain.security.CurrentUser;
+import com.isstrack.issue_tracker.domain.service.SavedViewService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+public class SavedViewController {
+  private final SavedViewService savedViewService;
+
+  public SavedViewController(SavedViewService savedViewService) {
+    this.savedViewService = savedViewService;
+  }
+
+  @PostMapping("/projects/{projectId}/views")
+  public SavedViewDto createView(
+      @PathVariable long projectId,
+      @Valid @RequestBody CreateSavedViewRequest request
+  ) {
+    long userId = CurrentUser.requireUserId();
+    return savedViewService.createView(userId, projectId, request);
+  }
+
+  @GetMapping("/projects/{projectId}/views")
+  public List<SavedViewDto> listViews(@PathVariable long projectId) {
+    long userId = CurrentUser.requireUserId();
+    return savedViewService.listViews(userId, projectId);
+  }
+
+  @GetMapping("/views/{viewId}/issues")
+  public PageResponse<IssueDto> openView(
+      @PathVariable long viewId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "exact") String count
+  ) {
+    long userId = CurrentUser.requireUserId();
+    var countMode = com.isstrack.issue_tracker.domain.service.CountMode.parse(count);
+    return savedViewService.openView(userId, viewId, page, size, countMode);
+  }
+
+  @DeleteMapping("/views/{viewId}")
+  public void deleteView(@PathVariable long viewId) {
+    long userId = CurrentUser.requireUserId();
+    savedViewService.deleteView(userId, viewId);
+  }
+}
+
@@ -0,0 +1,47 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.controller;
+
+import com.isstrack.issue_tracker.api.dto.UpdateProfileRequest;
+import com.isstrack.issue_tracker.api.dto.UserDto;
+import com.isstrack.issue_tracker.api.dto.UserSummaryDto;
+import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
+import com.isstrack.issue_tracker.domain.security.CurrentUser;
+import com.isstrack.issue_tracker.domain.service.UserService;
+import com.isstrack.issue_tracker.domain.service.UserSummaryService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+  private final UserService userService;
+  private final UserSummaryService userSummaryService;
+
+  public UserController(UserService userService, UserSummaryService userSummaryService) {
+    this.userService = userService;
+    this.userSummaryService = userSummaryService;
+  }
+
+  @GetMapping("/summaries")
+  public List<UserSummaryDto> summaries(@RequestParam List<Long> ids) {
+    long userId = CurrentUser.requireUserId();
+    return userSummaryService.lookup(userId, ids);
+  }
+
+  @PatchMapping("/me")
+  public UserDto updateProfile(@Valid @RequestBody UpdateProfileRequest request) {
+    long userId = CurrentUser.requireUserId();
+    return EntityMapper.toUserDto(userService.updateProfile(userId, request));
+  }
+}
+
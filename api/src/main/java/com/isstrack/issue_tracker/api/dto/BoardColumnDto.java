@@ -0,0 +1,18 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+public record BoardColumnDto(
+    String status,
+    long total,
+    List<IssueDto> items,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+) {
+}
+
@@ -0,0 +1,15 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import java.util.List;
+
+public record BoardDto(
+    long projectId,
+    List<BoardColumnDto> columns
+) {
+}
+
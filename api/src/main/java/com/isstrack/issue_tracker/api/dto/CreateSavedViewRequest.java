@@ -0,0 +1,18 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateSavedViewRequest(
+    @NotBlank @Size(max = 100) String name,
+    IssueFilter filter,
+    @Size(max = 50) String sort
+) {
+}
+
@@ -0,0 +1,15 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+public record IssueBatchDto(
+    Long projectId,
+    int count,
+    Integer firstIssueNumber,
+    Integer lastIssueNumber
+) {
+}
+
@@ -5,11 +5,27 @@
  */
 package com.isstrack.issue_tracker.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+
 public record IssueDetailDto(
     IssueDto issue,
     String description,
     PageResponse<CommentDto> comments,
-    PageResponse<ActivityDto> activity
+    PageResponse<ActivityDto> activity,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Map<Long, UserSummaryDto> users
 ) {
+  public IssueDetailDto(
+      IssueDto issue,
+      String description,
+      PageResponse<CommentDto> comments,
+      PageResponse<ActivityDto> activity
+  ) {
+    this(issue, description, comments, activity, null);
+  }
+
+  public IssueDetailDto withUsers(Map<Long, UserSummaryDto> users) {
+    return new IssueDetailDto(issue, description, comments, activity, users);
+  }
 }
 
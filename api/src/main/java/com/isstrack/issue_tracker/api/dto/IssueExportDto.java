@@ -0,0 +1,26 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record IssueExportDto(
+    Long id,
+    String issueKey,
+    String title,
+    String description,
+    String status,
+    String priority,
+    Long ownerUserId,
+    Long assigneeUserId,
+    List<String> tags,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant closedAt
+) {
+}
+
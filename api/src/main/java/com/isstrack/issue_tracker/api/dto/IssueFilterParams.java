@@ -0,0 +1,59 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Issue filter query parameters shared by the list, board, export and search endpoints.
+ * Bound once with {@code @ModelAttribute} so every endpoint accepts the same names; a missing
+ * {@code unassigned} means false and a missing {@code tagMatch} means any.
+ */
+public record IssueFilterParams(
+    List<String> status,
+    List<String> priority,
+    List<Long> assigneeId,
+    Boolean unassigned,
+    List<String> tag,
+    String tagMatch,
+    String q,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo,
+    Instant closedFrom,
+    Instant closedTo
+) {
+  public IssueFilter toFilter() {
+    return toFilter(q);
+  }
+
+  /** Search takes {@code q} as its full-text query, so it is not also applied as a title filter. */
+  public IssueFilter toSearchFilter() {
+    return toFilter(null);
+  }
+
+  private IssueFilter toFilter(String query) {
+    return new IssueFilter(
+        status,
+        priority,
+        assigneeId,
+        Boolean.TRUE.equals(unassigned),
+        tag,
+        IssueFilter.TagMatch.parse(tagMatch),
+        query,
+        createdFrom,
+        createdTo,
+        updatedFrom,
+        updatedTo,
+        closedFrom,
+        closedTo
+    );
+  }
+}
+
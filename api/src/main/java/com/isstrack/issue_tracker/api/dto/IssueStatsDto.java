@@ -0,0 +1,19 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import java.util.Map;
+
+public record IssueStatsDto(
+    long projectId,
+    long total,
+    Map<String, Long> byStatus,
+    Map<String, Long> byPriority,
+    Map<Long, Long> byAssignee,
+    long unassigned
+) {
+}
+
@@ -0,0 +1,14 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+public record IssueSuggestionDto(
+    Long id,
+    String issueKey,
+    String title
+) {
+}
+
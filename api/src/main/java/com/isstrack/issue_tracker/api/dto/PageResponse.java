@@ -5,14 +5,40 @@
  */
 package com.isstrack.issue_tracker.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
+import java.util.Map;
 
 public record PageResponse<T>(
     List<T> items,
     int page,
     int size,
     long totalElements,
-    int totalPages
+    int totalPages,
+    boolean hasNext,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String prevCursor,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Map<Long, UserSummaryDto> users
 ) {
+  public PageResponse(List<T> items, int page, int size, long totalElements, int totalPages) {
+    this(items, page, size, totalElements, totalPages, page + 1 < totalPages, null, null);
+  }
+
+  public PageResponse(
+      List<T> items,
+      int page,
+      int size,
+      long totalElements,
+      int totalPages,
+      boolean hasNext,
+      String nextCursor,
+      String prevCursor
+  ) {
+    this(items, page, size, totalElements, totalPages, hasNext, nextCursor, prevCursor, null);
+  }
+
+  public PageResponse<T> withUsers(Map<Long, UserSummaryDto> users) {
+    return new PageResponse<>(items, page, size, totalElements, totalPages, hasNext, nextCursor, prevCursor, users);
+  }
 }
 
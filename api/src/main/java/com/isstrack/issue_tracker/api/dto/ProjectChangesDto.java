@@ -0,0 +1,18 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import java.util.List;
+
+public record ProjectChangesDto(
+    Long projectId,
+    long watermark,
+    boolean hasMore,
+    List<IssueDto> issues,
+    List<MembershipDto> memberships
+) {
+}
+
@@ -0,0 +1,20 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import java.time.Instant;
+
+public record SavedViewDto(
+    Long id,
+    Long projectId,
+    String name,
+    IssueFilter filter,
+    String sort,
+    Instant createdAt
+) {
+}
+
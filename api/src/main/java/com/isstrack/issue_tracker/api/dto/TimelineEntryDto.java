@@ -0,0 +1,19 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import java.time.Instant;
+
+public record TimelineEntryDto(
+    String type,
+    Long id,
+    Long issueId,
+    Long userId,
+    String text,
+    Instant createdAt
+) {
+}
+
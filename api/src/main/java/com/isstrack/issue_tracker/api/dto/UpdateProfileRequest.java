@@ -0,0 +1,15 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+import jakarta.validation.constraints.Size;
+
+public record UpdateProfileRequest(
+    @Size(max = 100) String firstName,
+    @Size(max = 100) String lastName
+) {
+}
+
@@ -0,0 +1,16 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.api.dto;
+
+public record UserSummaryDto(
+    Long id,
+    String username,
+    String firstName,
+    String lastName,
+    boolean active
+) {
+}
+
@@ -36,7 +36,8 @@ public class CorsConfig {
     var configuration = new CorsConfiguration();
     configuration.setAllowedOrigins(resolveAllowedOrigins(allowedOrigins, objectMapper, resourceLoader));
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    configuration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+    configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "If-None-Match"));
+    configuration.setExposedHeaders(List.of("ETag"));
     configuration.setAllowCredentials(true);
     var source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**", configuration);
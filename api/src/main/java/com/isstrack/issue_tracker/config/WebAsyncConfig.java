@@ -0,0 +1,34 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for streamed responses (issue exports). Each running export holds a pooled database
+ * connection for its whole duration, so the worker count caps how many can run at once and
+ * keeps them from starving the connection pool; further requests wait in the queue. It is
+ * handed to the export endpoint only and is not the MVC-wide async executor.
+ */
+@Configuration
+public class WebAsyncConfig {
+  @Bean
+  public ThreadPoolTaskExecutor streamingExecutor(
+      @Value("${app.export.workers:2}") int workers,
+      @Value("${app.export.queue-capacity:16}") int queueCapacity
+  ) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workers);
+    executor.setMaxPoolSize(workers);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("streaming-");
+    return executor;
+  }
+}
+
@@ -0,0 +1,15 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.event;
+
+import com.isstrack.issue_tracker.api.dto.ActivityDto;
+import java.time.Instant;
+import java.util.List;
+
+public record ActivityBatchLoggedEvent(Long issueId, List<ActivityDto> payload, Instant occurredAt)
+    implements DomainEvent {
+}
+
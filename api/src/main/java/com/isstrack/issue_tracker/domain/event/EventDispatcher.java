@@ -0,0 +1,232 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.event;
+
+import com.isstrack.issue_tracker.config.LifecycleLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands committed domain events to the WebSocket broker on dedicated worker threads so request
+ * threads return without paying for serialization and fan-out. Each topic is pinned to one
+ * worker, which keeps delivery order per topic. Queues are bounded; what happens when a queue is
+ * full depends on {@code app.events.dispatch.overflow}:
+ * <ul>
+ *   <li>BLOCK waits for space.</li>
+ *   <li>DROP_OLDEST discards the oldest queued event of that worker.</li>
+ *   <li>COALESCE replaces a queued update of the same issue with the newer one, and otherwise waits.</li>
+ * </ul>
+ */
+@Component
+public class EventDispatcher {
+  private static final Logger log = LoggerFactory.getLogger(EventDispatcher.class);
+
+  public enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    COALESCE
+  }
+
+  private final WebSocketBroadcaster broadcaster;
+  private final OverflowPolicy overflowPolicy;
+  private final List<Shard> shards = new ArrayList<>();
+  private final List<Thread> workers = new ArrayList<>();
+  private final Timer latency;
+  private final Counter dropped;
+  private final Counter coalesced;
+  private volatile boolean running = true;
+
+  public EventDispatcher(
+      WebSocketBroadcaster broadcaster,
+      MeterRegistry meterRegistry,
+      @Value("${app.events.dispatch.workers:2}") int workerCount,
+      @Value("${app.events.dispatch.queue-capacity:1024}") int queueCapacity,
+      @Value("${app.events.dispatch.overflow:BLOCK}") String overflowPolicy
+  ) {
+    this.broadcaster = broadcaster;
+    this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+    int count = Math.max(1, workerCount);
+    int capacity = Math.max(1, queueCapacity / count);
+    for (int i = 0; i < count; i++) {
+      var shard = new Shard(capacity);
+      shards.add(shard);
+      var worker = new Thread(() -> drain(shard), "event-dispatch-" + i);
+      worker.setDaemon(true);
+      workers.add(worker);
+    }
+    this.latency = Timer.builder("events.dispatch.latency")
+        .description("Time from commit to broker hand-off")
+        .register(meterRegistry);
+    this.dropped = Counter.builder("events.dispatch.dropped").register(meterRegistry);
+    this.coalesced = Counter.builder("events.dispatch.coalesced").register(meterRegistry);
+    Gauge.builder("events.dispatch.queue.depth", this, EventDispatcher::queueDepth)
+        .description("Events waiting for a dispatch worker")
+        .register(meterRegistry);
+    workers.forEach(Thread::start);
+    LifecycleLogger.startup(
+        log,
+        "EventDispatcher started: workers={}, capacityPerWorker={}, overflow={}",
+        count,
+        capacity,
+        this.overflowPolicy
+    );
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onEvent(DomainEvent event) {
+    var topic = WebSocketBroadcaster.topicOf(event);
+    var shard = shards.get(Math.floorMod(topic.hashCode(), shards.size()));
+    try {
+      shard.offer(new Envelope(event, coalesceKey(event), System.nanoTime()));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while queueing {} for {}", event.getClass().getSimpleName(), topic);
+    }
+  }
+
+  public int queueDepth() {
+    int depth = 0;
+    for (var shard : shards) {
+      depth += shard.size();
+    }
+    return depth;
+  }
+
+  @PreDestroy
+  public void stop() {
+    LifecycleLogger.shutdown(log, "EventDispatcher stopping with {} queued events", queueDepth());
+    running = false;
+    workers.forEach(Thread::interrupt);
+  }
+
+  private void drain(Shard shard) {
+    while (running) {
+      Envelope envelope;
+      try {
+        envelope = shard.take();
+      } catch (InterruptedException ex) {
+        return;
+      }
+      try {
+        broadcaster.onEvent(envelope.event);
+      } catch (RuntimeException ex) {
+        log.warn("Failed to dispatch {}", envelope.event.getClass().getSimpleName(), ex);
+      }
+      latency.record(System.nanoTime() - envelope.enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static Object coalesceKey(DomainEvent event) {
+    if (event instanceof IssueUpdatedEvent ev) {
+      return ev.issueId();
+    }
+    return null;
+  }
+
+  private static final class Envelope {
+    private DomainEvent event;
+    private final Object coalesceKey;
+    private final long enqueuedAt;
+
+    private Envelope(DomainEvent event, Object coalesceKey, long enqueuedAt) {
+      this.event = event;
+      this.coalesceKey = coalesceKey;
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+
+  private final class Shard {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<Envelope> queue;
+    private final Map<Object, Envelope> pendingByKey = new HashMap<>();
+    private final int capacity;
+
+    private Shard(int capacity) {
+      this.capacity = capacity;
+      this.queue = new ArrayDeque<>(capacity);
+    }
+
+    private void offer(Envelope envelope) throws InterruptedException {
+      lock.lock();
+      try {
+        while (queue.size() >= capacity) {
+          if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            forget(queue.poll());
+            dropped.increment();
+            break;
+          }
+          if (overflowPolicy == OverflowPolicy.COALESCE && envelope.coalesceKey != null) {
+            var pending = pendingByKey.get(envelope.coalesceKey);
+            if (pending != null) {
+              pending.event = envelope.event;
+              coalesced.increment();
+              return;
+            }
+          }
+          notFull.await();
+        }
+        queue.add(envelope);
+        if (envelope.coalesceKey != null) {
+          pendingByKey.put(envelope.coalesceKey, envelope);
+        }
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Envelope take() throws InterruptedException {
+      lock.lock();
+      try {
+        while (queue.isEmpty()) {
+          notEmpty.await();
+        }
+        var envelope = queue.poll();
+        forget(envelope);
+        notFull.signal();
+        return envelope;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int size() {
+      lock.lock();
+      try {
+        return queue.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void forget(Envelope envelope) {
+      if (envelope.coalesceKey != null) {
+        pendingByKey.remove(envelope.coalesceKey, envelope);
+      }
+    }
+  }
+}
+
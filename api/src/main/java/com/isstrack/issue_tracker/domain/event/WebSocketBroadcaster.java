@@ -5,13 +5,12 @@
  */
 package com.isstrack.issue_tracker.domain.event;
 
+import com.isstrack.issue_tracker.api.dto.IssueBatchDto;
 import com.isstrack.issue_tracker.config.LifecycleLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 @Component
 public class WebSocketBroadcaster {
@@ -22,7 +21,34 @@ public class WebSocketBroadcaster {
     this.messagingTemplate = messagingTemplate;
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public static String topicOf(DomainEvent event) {
+    if (event instanceof IssueCreatedEvent ev) {
+      return "/topic/projects." + ev.projectId();
+    }
+    if (event instanceof IssueUpdatedEvent ev) {
+      return "/topic/projects." + ev.projectId();
+    }
+    if (event instanceof IssuesBulkCreatedEvent ev) {
+      return "/topic/projects." + ev.projectId();
+    }
+    if (event instanceof MemberAddedEvent ev) {
+      return "/topic/projects." + ev.projectId();
+    }
+    if (event instanceof CommentAddedEvent ev) {
+      return "/topic/issues." + ev.issueId();
+    }
+    if (event instanceof ActivityLoggedEvent ev) {
+      return "/topic/issues." + ev.issueId();
+    }
+    if (event instanceof ActivityBatchLoggedEvent ev) {
+      return "/topic/issues." + ev.issueId();
+    }
+    if (event instanceof IssueAssignedEvent ev) {
+      return "/user/" + ev.assigneeUserId() + "/queue/notifications";
+    }
+    return event.getClass().getName();
+  }
+
   public void onEvent(DomainEvent event) {
     LifecycleLogger.websocket(log, "Broadcasting domain event: {}", event.getClass().getSimpleName());
     if (event instanceof IssueCreatedEvent ev) {
@@ -33,6 +59,10 @@ public class WebSocketBroadcaster {
       messagingTemplate.convertAndSend("/topic/projects." + ev.projectId(), ev.payload());
       return;
     }
+    if (event instanceof IssuesBulkCreatedEvent ev) {
+      messagingTemplate.convertAndSend("/topic/projects." + ev.projectId(), toBatchDto(ev));
+      return;
+    }
     if (event instanceof MemberAddedEvent ev) {
       messagingTemplate.convertAndSend("/topic/projects." + ev.projectId(), ev.payload());
       return;
@@ -45,6 +75,10 @@ public class WebSocketBroadcaster {
       messagingTemplate.convertAndSend("/topic/issues." + ev.issueId(), ev.payload());
       return;
     }
+    if (event instanceof ActivityBatchLoggedEvent ev) {
+      messagingTemplate.convertAndSend("/topic/issues." + ev.issueId(), ev.payload());
+      return;
+    }
     if (event instanceof IssueAssignedEvent ev) {
       messagingTemplate.convertAndSendToUser(
           String.valueOf(ev.assigneeUserId()),
@@ -53,5 +87,18 @@ public class WebSocketBroadcaster {
       );
     }
   }
+
+  private static IssueBatchDto toBatchDto(IssuesBulkCreatedEvent event) {
+    var issues = event.payload();
+    if (issues.isEmpty()) {
+      return new IssueBatchDto(event.projectId(), 0, null, null);
+    }
+    return new IssueBatchDto(
+        event.projectId(),
+        issues.size(),
+        issues.get(0).issueNumber(),
+        issues.get(issues.size() - 1).issueNumber()
+    );
+  }
 }
 
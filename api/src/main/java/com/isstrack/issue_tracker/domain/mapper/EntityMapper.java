@@ -59,18 +59,18 @@ public final class EntityMapper {
   }
 
   public static IssueDto toIssueDto(IssueEntity entity, List<String> tags) {
-    String issueKey = null;
-    if (entity.getIssueNumber() != null && entity.getProject().getPrefix() != null) {
-        issueKey = entity.getProject().getPrefix() + "-" + String.format("%03d", entity.getIssueNumber());
-    }
+    return toIssueDto(entity, tags, entity.getStatus().getName(), entity.getPriority().getName());
+  }
+
+  public static IssueDto toIssueDto(IssueEntity entity, List<String> tags, String statusName, String priorityName) {
     return new IssueDto(
         entity.getId(),
         entity.getProject().getId(),
         entity.getIssueNumber(),
-        issueKey,
+        issueKey(entity.getProject().getPrefix(), entity.getIssueNumber()),
         entity.getTitle(),
-        entity.getStatus().getName(),
-        entity.getPriority().getName(),
+        statusName,
+        priorityName,
         entity.getOwner().getId(),
         entity.getAssignee() == null ? null : entity.getAssignee().getId(),
         tags,
@@ -78,6 +78,13 @@ public final class EntityMapper {
     );
   }
 
+  public static String issueKey(String prefix, Integer issueNumber) {
+    if (issueNumber == null || prefix == null) {
+      return null;
+    }
+    return prefix + "-" + String.format("%03d", issueNumber);
+  }
+
   public static CommentDto toCommentDto(IssueCommentEntity entity) {
     return new CommentDto(
         entity.getId(),
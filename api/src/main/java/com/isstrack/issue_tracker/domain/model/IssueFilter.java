@@ -0,0 +1,70 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.model;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Issue list filters. Values inside one list are OR-ed, different filters are AND-ed.
+ * {@code unassigned} adds "no assignee" to the assignee list. Date ranges are
+ * {@code [from, to)} and either end may be open.
+ */
+public record IssueFilter(
+    List<String> statuses,
+    List<String> priorities,
+    List<Long> assigneeIds,
+    boolean unassigned,
+    List<String> tags,
+    TagMatch tagMatch,
+    String query,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo,
+    Instant closedFrom,
+    Instant closedTo
+) {
+  public IssueFilter {
+    statuses = texts(statuses);
+    priorities = texts(priorities);
+    assigneeIds = assigneeIds == null ? List.of() : assigneeIds.stream().filter(Objects::nonNull).distinct().toList();
+    tags = texts(tags);
+    tagMatch = tagMatch == null ? TagMatch.ANY : tagMatch;
+    query = query == null || query.isBlank() ? null : query.trim();
+  }
+
+  public boolean filtersAssignee() {
+    return unassigned || !assigneeIds.isEmpty();
+  }
+
+  private static List<String> texts(List<String> values) {
+    if (values == null) {
+      return List.of();
+    }
+    return values.stream().filter(value -> value != null && !value.isBlank()).map(String::trim).distinct().toList();
+  }
+
+  public enum TagMatch {
+    ANY,
+    ALL;
+
+    public static TagMatch parse(String value) {
+      if (value == null || value.isBlank()) {
+        return ANY;
+      }
+      try {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException ex) {
+        throw new BadRequestException("tagMatch must be one of any, all");
+      }
+    }
+  }
+}
+
@@ -37,9 +37,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     var header = request.getHeader("Authorization");
     if (header != null && header.startsWith("Bearer ")) {
       var token = header.substring(7);
-      if (jwtService.validateToken(token)) {
-        var userId = String.valueOf(jwtService.extractUserId(token));
-        var role = jwtService.extractRole(token);
+      var principal = jwtService.authenticate(token);
+      if (principal.isPresent()) {
+        var userId = String.valueOf(principal.get().userId());
+        var role = principal.get().role();
         var auth = new UsernamePasswordAuthenticationToken(
             userId,
             null,
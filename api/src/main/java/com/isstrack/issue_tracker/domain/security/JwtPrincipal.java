@@ -0,0 +1,12 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.security;
+
+import java.time.Instant;
+
+public record JwtPrincipal(long userId, String role, String username, Instant expiresAt) {
+}
+
@@ -7,13 +7,22 @@ package com.isstrack.issue_tracker.domain.security;
 
 import com.isstrack.issue_tracker.persistence.entity.UserEntity;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -23,15 +32,28 @@ public class JwtService {
   private final SecretKey secretKey;
   private final String issuer;
   private final int expirationMinutes;
+  private final JwtParser parser;
+  private final Map<String, JwtPrincipal> verified;
 
   public JwtService(
       @Value("${app.jwt.secret}") String secret,
       @Value("${app.jwt.issuer}") String issuer,
-      @Value("${app.jwt.expirationMinutes}") int expirationMinutes
+      @Value("${app.jwt.expirationMinutes}") int expirationMinutes,
+      @Value("${app.jwt.cache-size:10000}") int cacheSize
   ) {
     this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     this.issuer = issuer;
     this.expirationMinutes = expirationMinutes;
+    this.parser = Jwts.parserBuilder()
+        .setSigningKey(secretKey)
+        .build();
+    int capacity = Math.max(1, cacheSize);
+    this.verified = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+        return size() > capacity;
+      }
+    });
   }
 
   public String generateToken(UserEntity user) {
@@ -47,29 +69,42 @@ public class JwtService {
         .compact();
   }
 
-  public boolean validateToken(String token) {
-    try {
-      parseClaims(token);
-      return true;
-    } catch (Exception ex) {
-      return false;
+  public Optional<JwtPrincipal> authenticate(String token) {
+    var digest = digest(token);
+    var cached = verified.get(digest);
+    if (cached != null) {
+      if (cached.expiresAt().isAfter(Instant.now())) {
+        return Optional.of(cached);
+      }
+      verified.remove(digest);
     }
+    var principal = parse(token);
+    principal.ifPresent(value -> verified.put(digest, value));
+    return principal;
   }
 
-  public long extractUserId(String token) {
-    return Long.parseLong(parseClaims(token).getSubject());
-  }
-
-  public String extractRole(String token) {
-    return parseClaims(token).get("role", String.class);
+  private Optional<JwtPrincipal> parse(String token) {
+    try {
+      Claims claims = parser.parseClaimsJws(token).getBody();
+      var expiration = claims.getExpiration();
+      return Optional.of(new JwtPrincipal(
+          Long.parseLong(claims.getSubject()),
+          claims.get("role", String.class),
+          claims.get("username", String.class),
+          expiration == null ? Instant.MAX : expiration.toInstant()
+      ));
+    } catch (JwtException | IllegalArgumentException ex) {
+      return Optional.empty();
+    }
   }
 
-  private Claims parseClaims(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(secretKey)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+  private static String digest(String token) {
+    try {
+      var sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
   }
 }
 
@@ -37,11 +37,12 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
         LifecycleLogger.websocket(log, "STOMP CONNECT rejected: missing token");
         throw new IllegalArgumentException("Missing Authorization token");
       }
-      if (!jwtService.validateToken(token)) {
-        LifecycleLogger.websocket(log, "STOMP CONNECT rejected: invalid token");
-        throw new IllegalArgumentException("Invalid token");
-      }
-      var userId = String.valueOf(jwtService.extractUserId(token));
+      var principal = jwtService.authenticate(token)
+          .orElseThrow(() -> {
+            LifecycleLogger.websocket(log, "STOMP CONNECT rejected: invalid token");
+            return new IllegalArgumentException("Invalid token");
+          });
+      var userId = String.valueOf(principal.userId());
       accessor.setUser(new StompPrincipal(userId));
       LifecycleLogger.websocket(log, "STOMP CONNECT authenticated, userId={}", userId);
     }
@@ -20,25 +20,41 @@ public class ActivityQueryService {
   private final IssueActivityRepository activityRepository;
   private final IssueRepository issueRepository;
   private final ProjectAccessService accessService;
+  private final PageCounter pageCounter;
 
   public ActivityQueryService(
       IssueActivityRepository activityRepository,
       IssueRepository issueRepository,
-      ProjectAccessService accessService
+      ProjectAccessService accessService,
+      PageCounter pageCounter
   ) {
     this.activityRepository = activityRepository;
     this.issueRepository = issueRepository;
     this.accessService = accessService;
+    this.pageCounter = pageCounter;
   }
 
   @Transactional(readOnly = true)
-  public PageResponse<ActivityDto> listActivity(long userId, long issueId, Pageable pageable) {
+  public PageResponse<ActivityDto> listActivity(
+      long userId,
+      long issueId,
+      Pageable pageable,
+      CountMode countMode
+  ) {
     var issue = issueRepository.findById(issueId)
         .orElseThrow(() -> new NotFoundException("Issue not found"));
     accessService.requireActiveMember(userId, issue.getProject().getId());
-    var page = activityRepository.findByIssueIdOrderByCreatedAtDesc(issueId, pageable);
+    var page = countMode == CountMode.EXACT
+        ? activityRepository.findByIssueIdOrderByCreatedAtDesc(issueId, pageable)
+        : activityRepository.findSliceByIssueIdOrderByCreatedAtDesc(issueId, pageable);
     var items = page.stream().map(EntityMapper::toActivityDto).toList();
-    return new PageResponse<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    return pageCounter.response(
+        page,
+        items,
+        countMode,
+        "activity:" + issueId,
+        () -> activityRepository.countByIssueId(issueId)
+    );
   }
 }
 
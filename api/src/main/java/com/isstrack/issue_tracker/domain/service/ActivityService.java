@@ -6,37 +6,94 @@
 package com.isstrack.issue_tracker.domain.service;
 
 import com.isstrack.issue_tracker.api.dto.ActivityDto;
+import com.isstrack.issue_tracker.domain.event.ActivityBatchLoggedEvent;
 import com.isstrack.issue_tracker.domain.event.ActivityLoggedEvent;
-import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
-import com.isstrack.issue_tracker.persistence.entity.IssueActivityEntity;
 import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
 import com.isstrack.issue_tracker.persistence.entity.UserEntity;
-import com.isstrack.issue_tracker.persistence.repo.IssueActivityRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository.ActivityRow;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class ActivityService {
-  private final IssueActivityRepository activityRepository;
+  private final IssueBatchRepository batchRepository;
   private final ApplicationEventPublisher eventPublisher;
 
-  public ActivityService(IssueActivityRepository activityRepository, ApplicationEventPublisher eventPublisher) {
-    this.activityRepository = activityRepository;
+  public ActivityService(IssueBatchRepository batchRepository, ApplicationEventPublisher eventPublisher) {
+    this.batchRepository = batchRepository;
     this.eventPublisher = eventPublisher;
   }
 
-  @Transactional
-  public ActivityDto logActivity(IssueEntity issue, UserEntity actor, String message) {
-    var activity = new IssueActivityEntity();
-    activity.setIssue(issue);
-    activity.setActor(actor);
-    activity.setMessage(message);
-    var saved = activityRepository.save(activity);
-    var dto = EntityMapper.toActivityDto(saved);
-    eventPublisher.publishEvent(new ActivityLoggedEvent(issue.getId(), dto, Instant.now()));
-    return dto;
+  /**
+   * Buffers the entry for the surrounding transaction. All entries logged in one
+   * transaction are inserted together just before commit and announced as one event per issue.
+   * Outside a transaction the entry is written and announced immediately.
+   */
+  public void logActivity(IssueEntity issue, UserEntity actor, String message) {
+    var entry = new ActivityRow(issue.getId(), actor.getId(), message, Instant.now());
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      persist(List.of(entry));
+      return;
+    }
+    currentBuffer().add(entry);
+  }
+
+  private List<ActivityRow> currentBuffer() {
+    @SuppressWarnings("unchecked")
+    var buffer = (List<ActivityRow>) TransactionSynchronizationManager.getResource(this);
+    if (buffer == null) {
+      buffer = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(this, buffer);
+      TransactionSynchronizationManager.registerSynchronization(new BufferFlush(buffer));
+    }
+    return buffer;
+  }
+
+  private void persist(List<ActivityRow> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    Map<Long, List<ActivityDto>> byIssue = new LinkedHashMap<>();
+    for (var saved : batchRepository.insertActivityReturning(entries)) {
+      var dto = new ActivityDto(saved.id(), saved.issueId(), saved.actorUserId(), saved.message(), saved.createdAt());
+      byIssue.computeIfAbsent(saved.issueId(), key -> new ArrayList<>()).add(dto);
+    }
+    var now = Instant.now();
+    byIssue.forEach((issueId, activities) -> {
+      if (activities.size() == 1) {
+        eventPublisher.publishEvent(new ActivityLoggedEvent(issueId, activities.get(0), now));
+      } else {
+        eventPublisher.publishEvent(new ActivityBatchLoggedEvent(issueId, List.copyOf(activities), now));
+      }
+    });
+  }
+
+  private final class BufferFlush implements TransactionSynchronization {
+    private final List<ActivityRow> buffer;
+
+    private BufferFlush(List<ActivityRow> buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      var entries = List.copyOf(buffer);
+      buffer.clear();
+      persist(entries);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(ActivityService.this);
+    }
   }
 }
 
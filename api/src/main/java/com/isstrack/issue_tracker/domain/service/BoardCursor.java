@@ -0,0 +1,49 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.ColumnStart;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * "Load more" position of one board column: the column's status and the {@code (updatedAt, id)}
+ * of its last issue. Encoded as opaque base64url text like {@link IssueCursor}.
+ */
+record BoardCursor(short statusId, Instant updatedAt, long issueId) {
+  private static final String SEPARATOR = ":";
+
+  static BoardCursor after(IssueListRow issue) {
+    return new BoardCursor(issue.statusId(), issue.updatedAt(), issue.id());
+  }
+
+  static BoardCursor decode(String cursor) {
+    try {
+      var text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = text.split(SEPARATOR, 4);
+      if (parts.length != 4 || !"b".equals(parts[0])) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return new BoardCursor(Short.parseShort(parts[1]), Instant.parse(parts[3]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  String encode() {
+    var text = String.join(SEPARATOR, "b", Short.toString(statusId), Long.toString(issueId), updatedAt.toString());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  ColumnStart start() {
+    return new ColumnStart(statusId, updatedAt, issueId);
+  }
+}
+
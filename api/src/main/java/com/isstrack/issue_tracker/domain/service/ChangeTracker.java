@@ -0,0 +1,86 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.domain.event.ActivityBatchLoggedEvent;
+import com.isstrack.issue_tracker.domain.event.ActivityLoggedEvent;
+import com.isstrack.issue_tracker.domain.event.CommentAddedEvent;
+import com.isstrack.issue_tracker.domain.event.DomainEvent;
+import com.isstrack.issue_tracker.domain.event.IssueCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssuesBulkCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.MemberAddedEvent;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process change counters behind the ETags of conditional GETs. Counters are bumped after
+ * commit and read before the guarded query runs, so an ETag can under-state a response but never
+ * vouch for stale data. Keys share a fixed number of stripes; a collision only costs a 200.
+ * The boot epoch keeps ETags from matching across restarts.
+ */
+@Component
+public class ChangeTracker {
+  private static final int STRIPES = 4096;
+
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final AtomicLongArray projects = new AtomicLongArray(STRIPES);
+  private final AtomicLongArray issues = new AtomicLongArray(STRIPES);
+  private final AtomicLongArray users = new AtomicLongArray(STRIPES);
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onEvent(DomainEvent event) {
+    if (event instanceof IssueCreatedEvent ev) {
+      bump(projects, ev.projectId());
+      bump(issues, ev.issueId());
+    } else if (event instanceof IssueUpdatedEvent ev) {
+      bump(projects, ev.projectId());
+      bump(issues, ev.issueId());
+    } else if (event instanceof IssuesBulkCreatedEvent ev) {
+      bump(projects, ev.projectId());
+    } else if (event instanceof MemberAddedEvent ev) {
+      bump(projects, ev.projectId());
+      if (ev.payload().userId() != null) {
+        bump(users, ev.payload().userId());
+      }
+    } else if (event instanceof CommentAddedEvent ev) {
+      bump(issues, ev.issueId());
+    } else if (event instanceof ActivityLoggedEvent ev) {
+      bump(issues, ev.issueId());
+    } else if (event instanceof ActivityBatchLoggedEvent ev) {
+      bump(issues, ev.issueId());
+    }
+  }
+
+  public String projectTag(long projectId) {
+    return "\"p" + projectId + "-" + epoch + "-" + read(projects, projectId) + "\"";
+  }
+
+  public String issueTag(long issueId, int version) {
+    return "\"i" + issueId + "-" + version + "-" + epoch + "-" + read(issues, issueId) + "\"";
+  }
+
+  public String userTag(long userId) {
+    return "\"u" + userId + "-" + epoch + "-" + read(users, userId) + "\"";
+  }
+
+  private static void bump(AtomicLongArray counters, Long key) {
+    if (key != null) {
+      counters.incrementAndGet(stripe(key));
+    }
+  }
+
+  private static long read(AtomicLongArray counters, long key) {
+    return counters.get(stripe(key));
+  }
+
+  private static int stripe(long key) {
+    return (int) Math.floorMod(key ^ (key >>> 32), (long) STRIPES);
+  }
+}
+
@@ -30,6 +30,7 @@ public class CommentService {
   private final ProjectAccessService accessService;
   private final ActivityService activityService;
   private final ApplicationEventPublisher eventPublisher;
+  private final PageCounter pageCounter;
 
   public CommentService(
       IssueCommentRepository commentRepository,
@@ -37,7 +38,8 @@ public class CommentService {
       UserRepository userRepository,
       ProjectAccessService accessService,
       ActivityService activityService,
-      ApplicationEventPublisher eventPublisher
+      ApplicationEventPublisher eventPublisher,
+      PageCounter pageCounter
   ) {
     this.commentRepository = commentRepository;
     this.issueRepository = issueRepository;
@@ -45,6 +47,7 @@ public class CommentService {
     this.accessService = accessService;
     this.activityService = activityService;
     this.eventPublisher = eventPublisher;
+    this.pageCounter = pageCounter;
   }
 
   @Transactional
@@ -66,13 +69,26 @@ public class CommentService {
   }
 
   @Transactional(readOnly = true)
-  public PageResponse<CommentDto> listComments(long userId, long issueId, Pageable pageable) {
+  public PageResponse<CommentDto> listComments(
+      long userId,
+      long issueId,
+      Pageable pageable,
+      CountMode countMode
+  ) {
     var issue = issueRepository.findById(issueId)
         .orElseThrow(() -> new NotFoundException("Issue not found"));
     accessService.requireActiveMember(userId, issue.getProject().getId());
-    var page = commentRepository.findByIssueIdOrderByCreatedAtDesc(issueId, pageable);
+    var page = countMode == CountMode.EXACT
+        ? commentRepository.findByIssueIdOrderByCreatedAtDesc(issueId, pageable)
+        : commentRepository.findSliceByIssueIdOrderByCreatedAtDesc(issueId, pageable);
     var items = page.stream().map(EntityMapper::toCommentDto).toList();
-    return new PageResponse<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    return pageCounter.response(
+        page,
+        items,
+        countMode,
+        "comments:" + issueId,
+        () -> commentRepository.countByIssueId(issueId)
+    );
   }
 
   @Transactional
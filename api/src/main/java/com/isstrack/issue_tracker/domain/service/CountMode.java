@@ -0,0 +1,31 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import java.util.Locale;
+
+/**
+ * How a paged endpoint fills {@code totalElements}: an exact count, no count at all
+ * (only {@code hasNext}), or a cached estimate.
+ */
+public enum CountMode {
+  EXACT,
+  NONE,
+  ESTIMATE;
+
+  public static CountMode parse(String value) {
+    if (value == null || value.isBlank()) {
+      return EXACT;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("count must be one of exact, none, estimate");
+    }
+  }
+}
+
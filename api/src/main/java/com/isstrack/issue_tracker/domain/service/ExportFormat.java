@@ -0,0 +1,44 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+/** Wire format of an issue export: one JSON object per line, or CSV with a header row. */
+public enum ExportFormat {
+  NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+  CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  ExportFormat(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public static ExportFormat parse(String value) {
+    if (value == null || value.isBlank()) {
+      return NDJSON;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("format must be one of ndjson, csv");
+    }
+  }
+}
+
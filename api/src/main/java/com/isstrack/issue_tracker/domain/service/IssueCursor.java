@@ -0,0 +1,77 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import com.isstrack.issue_tracker.persistence.spec.IssueSpecifications;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Position of an issue in a keyset-paginated list: the sort key and id of the row the
+ * page starts after, plus the sort it was issued for. Encoded as opaque base64url text.
+ */
+record IssueCursor(boolean backward, String field, Sort.Direction direction, long id, String key) {
+  private static final String SEPARATOR = ":";
+
+  static IssueCursor at(IssueListRow issue, Sort.Order order, boolean backward) {
+    return new IssueCursor(backward, order.getProperty(), order.getDirection(), issue.id(), keyOf(issue, order.getProperty()));
+  }
+
+  static IssueCursor decode(String cursor) {
+    try {
+      var text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = text.split(SEPARATOR, 5);
+      if (parts.length != 5 || !("n".equals(parts[0]) || "p".equals(parts[0]))) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      var decoded = new IssueCursor(
+          "p".equals(parts[0]),
+          parts[1],
+          Sort.Direction.fromString(parts[2]),
+          Long.parseLong(parts[3]),
+          parts[4]
+      );
+      decoded.seek(true);
+      return decoded;
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  String encode() {
+    var text = String.join(SEPARATOR, backward ? "p" : "n", field, direction.name(), Long.toString(id), key);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  boolean matches(Sort.Order order) {
+    return field.equals(order.getProperty()) && direction == order.getDirection();
+  }
+
+  Specification<IssueEntity> seek(boolean ascending) {
+    return switch (field) {
+      case "updatedAt", "createdAt" -> IssueSpecifications.seek(field, ascending, Instant.parse(key), id);
+      case "title" -> IssueSpecifications.seek(field, ascending, key, id);
+      default -> throw new BadRequestException("Invalid cursor");
+    };
+  }
+
+  private static String keyOf(IssueListRow issue, String field) {
+    return switch (field) {
+      case "updatedAt" -> issue.updatedAt().toString();
+      case "createdAt" -> issue.createdAt().toString();
+      case "title" -> issue.title();
+      default -> throw new BadRequestException("Unsupported sort for cursor pagination: " + field);
+    };
+  }
+}
+
@@ -10,15 +10,17 @@ import com.isstrack.issue_tracker.api.dto.CommentDto;
 import com.isstrack.issue_tracker.api.dto.IssueDetailDto;
 import com.isstrack.issue_tracker.api.dto.IssueDto;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.error.ForbiddenException;
 import com.isstrack.issue_tracker.api.error.NotFoundException;
 import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
-import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
-import com.isstrack.issue_tracker.persistence.repo.IssueActivityRepository;
-import com.isstrack.issue_tracker.persistence.repo.IssueCommentRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.DetailRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.PageSlice;
 import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
-import com.isstrack.issue_tracker.persistence.repo.IssueTagRepository;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,61 +28,121 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class IssueDetailService {
   private final IssueRepository issueRepository;
-  private final IssueTagRepository issueTagRepository;
-  private final IssueCommentRepository commentRepository;
-  private final IssueActivityRepository activityRepository;
+  private final IssueDetailRepository detailRepository;
   private final ProjectAccessService accessService;
+  private final ReferenceDataRegistry referenceData;
+  private final TagService tagService;
+  private final ChangeTracker changeTracker;
+  private final ParallelReads parallelReads;
+  private final boolean parallel;
 
   public IssueDetailService(
       IssueRepository issueRepository,
-      IssueTagRepository issueTagRepository,
-      IssueCommentRepository commentRepository,
-      IssueActivityRepository activityRepository,
-      ProjectAccessService accessService
+      IssueDetailRepository detailRepository,
+      ProjectAccessService accessService,
+      ReferenceDataRegistry referenceData,
+      TagService tagService,
+      ChangeTracker changeTracker,
+      ParallelReads parallelReads,
+      @Value("${app.issues.detail.parallel:false}") boolean parallel
   ) {
     this.issueRepository = issueRepository;
-    this.issueTagRepository = issueTagRepository;
-    this.commentRepository = commentRepository;
-    this.activityRepository = activityRepository;
+    this.detailRepository = detailRepository;
     this.accessService = accessService;
+    this.referenceData = referenceData;
+    this.tagService = tagService;
+    this.changeTracker = changeTracker;
+    this.parallelReads = parallelReads;
+    this.parallel = parallel;
   }
 
   @Transactional(readOnly = true)
+  public String issueDetailEtag(long userId, long issueId) {
+    var issue = issueRepository.findVersionById(issueId)
+        .orElseThrow(() -> new NotFoundException("Issue not found"));
+    accessService.requireActiveMember(userId, issue.getProjectId());
+    return changeTracker.issueTag(issueId, issue.getVersion());
+  }
+
+  /**
+   * Issue, tags and the first comment and activity pages from a single statement. The
+   * membership check rides along in the same query rather than going through the access cache.
+   * With {@code app.issues.detail.parallel} the four parts run as separate statements on
+   * {@link ParallelReads} instead, which trades connections for latency when the database is far away.
+   */
   public IssueDetailDto getIssueDetail(
       long userId,
       long issueId,
       Pageable commentsPageable,
       Pageable activityPageable
   ) {
-    IssueEntity issue = issueRepository.findIssueDetailById(issueId)
-        .orElseThrow(() -> new NotFoundException("Issue not found"));
-    accessService.requireActiveMember(userId, issue.getProject().getId());
-    List<String> tags = issueTagRepository.findIssueTagsByIssueIds(List.of(issueId)).stream()
-        .map(row -> Objects.toString(row[1]))
-        .toList();
-    IssueDto issueDto = EntityMapper.toIssueDto(issue, tags);
+    var comments = new PageSlice(commentsPageable.getPageSize(), commentsPageable.getOffset());
+    var activity = new PageSlice(activityPageable.getPageSize(), activityPageable.getOffset());
+    DetailRow detail = (parallel
+        ? findDetailInParallel(userId, issueId, comments, activity)
+        : detailRepository.findDetail(userId, issueId, comments, activity)
+    ).orElseThrow(() -> new NotFoundException("Issue not found"));
+    if (!detail.head().member()) {
+      throw new ForbiddenException("Not a project member");
+    }
 
-    var commentPage = commentRepository.findByIssueIdOrderByCreatedAtDesc(issueId, commentsPageable);
-    var commentItems = commentPage.stream().map(EntityMapper::toCommentDto).toList();
-    PageResponse<CommentDto> comments = new PageResponse<>(
-        commentItems,
-        commentPage.getNumber(),
-        commentPage.getSize(),
-        commentPage.getTotalElements(),
-        commentPage.getTotalPages()
+    var issue = detail.head().issue();
+    List<String> tags = new ArrayList<>(detail.tags().size());
+    for (var tag : detail.tags()) {
+      tags.add(tagService.canonicalName(tag.id(), tag.name()));
+    }
+    IssueDto issueDto = new IssueDto(
+        issue.id(),
+        issue.projectId(),
+        issue.issueNumber(),
+        EntityMapper.issueKey(issue.projectPrefix(), issue.issueNumber()),
+        issue.title(),
+        referenceData.statusName(issue.statusId()),
+        referenceData.priorityName(issue.priorityId()),
+        issue.ownerUserId(),
+        issue.assigneeUserId(),
+        tags,
+        issue.updatedAt()
     );
 
-    var activityPage = activityRepository.findByIssueIdOrderByCreatedAtDesc(issueId, activityPageable);
-    var activityItems = activityPage.stream().map(EntityMapper::toActivityDto).toList();
-    PageResponse<ActivityDto> activity = new PageResponse<>(
-        activityItems,
-        activityPage.getNumber(),
-        activityPage.getSize(),
-        activityPage.getTotalElements(),
-        activityPage.getTotalPages()
+    var commentItems = detail.comments().entries().stream()
+        .map(row -> new CommentDto(row.id(), issueId, row.userId(), row.text(), row.createdAt()))
+        .toList();
+    var activityItems = detail.activity().entries().stream()
+        .map(row -> new ActivityDto(row.id(), issueId, row.userId(), row.text(), row.createdAt()))
+        .toList();
+
+    return new IssueDetailDto(
+        issueDto,
+        detail.head().description(),
+        page(commentItems, commentsPageable, detail.comments().total()),
+        page(activityItems, activityPageable, detail.activity().total())
     );
+  }
+
+  /**
+   * The parts do not depend on each other, so tags and pages are fetched without waiting for
+   * the membership flag; a non-member's results are discarded.
+   */
+  private Optional<DetailRow> findDetailInParallel(
+      long userId,
+      long issueId,
+      PageSlice comments,
+      PageSlice activity
+  ) {
+    var batch = parallelReads.batch();
+    var head = batch.fork(() -> detailRepository.findHead(userId, issueId));
+    var tags = batch.fork(() -> detailRepository.findTags(issueId));
+    var commentPage = batch.fork(() -> detailRepository.findComments(issueId, comments));
+    var activityPage = batch.fork(() -> detailRepository.findActivity(issueId, activity));
+    batch.join();
+    return head.get().map(row -> new DetailRow(row, tags.get(), commentPage.get(), activityPage.get()));
+  }
 
-    return new IssueDetailDto(issueDto, issue.getDescription(), comments, activity);
+  private static <T> PageResponse<T> page(List<T> items, Pageable pageable, long total) {
+    int size = pageable.getPageSize();
+    int totalPages = (int) ((total + size - 1) / size);
+    return new PageResponse<>(items, pageable.getPageNumber(), size, total, totalPages);
   }
 }
 
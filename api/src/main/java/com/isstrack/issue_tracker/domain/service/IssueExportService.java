@@ -0,0 +1,133 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isstrack.issue_tracker.api.dto.IssueExportDto;
+import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.persistence.repo.IssueExportRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueExportRepository.ExportQuery;
+import com.isstrack.issue_tracker.persistence.repo.IssueExportRepository.ExportRow;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams every issue of a project that matches the list filters. Access and filter names are
+ * checked on the request thread; the body runs on the export executor, reading through a
+ * database cursor in a read-only transaction and writing each row as it arrives. That
+ * transaction holds a pooled connection until the client has read the last row, so every
+ * running export takes one connection away from requests. {@code app.export.timeout-seconds}
+ * bounds how long: it is the async request timeout, the transaction timeout, and is checked
+ * again before each row so a slow reader cannot keep the cursor open past it.
+ */
+@Service
+public class IssueExportService {
+  private final IssueExportRepository exportRepository;
+  private final IssueQueryService issueQueryService;
+  private final ProjectAccessService accessService;
+  private final ReferenceDataRegistry referenceData;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private final AsyncTaskExecutor streamingExecutor;
+  private final long timeoutSeconds;
+
+  public IssueExportService(
+      IssueExportRepository exportRepository,
+      IssueQueryService issueQueryService,
+      ProjectAccessService accessService,
+      ReferenceDataRegistry referenceData,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor,
+      @Value("${app.export.timeout-seconds:120}") long timeoutSeconds
+  ) {
+    this.exportRepository = exportRepository;
+    this.issueQueryService = issueQueryService;
+    this.accessService = accessService;
+    this.referenceData = referenceData;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.readOnlyTransaction.setTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(1, timeoutSeconds)));
+    this.streamingExecutor = streamingExecutor;
+    this.timeoutSeconds = Math.max(1, timeoutSeconds);
+  }
+
+  public StreamingResponseBody exportIssues(long userId, long projectId, IssueFilter filter, ExportFormat format) {
+    accessService.requireActiveMember(userId, projectId);
+    var ids = issueQueryService.resolve(filter);
+    return out -> {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+      var writer = IssueExportWriter.open(format, out, objectMapper);
+      if (ids.isPresent()) {
+        var query = new ExportQuery(
+            projectId,
+            filter,
+            ids.get().statusIds(),
+            ids.get().priorityIds(),
+            ids.get().tagIds()
+        );
+        try {
+          readOnlyTransaction.executeWithoutResult(status -> exportRepository.stream(query, row -> {
+            if (System.nanoTime() - deadline > 0) {
+              throw new QueryTimeoutException("Export did not finish within " + timeoutSeconds + " s");
+            }
+            try {
+              writer.write(toDto(row));
+            } catch (IOException ex) {
+              throw new UncheckedIOException(ex);
+            }
+          }));
+        } catch (UncheckedIOException ex) {
+          throw ex.getCause();
+        }
+      }
+      writer.finish();
+    };
+  }
+
+  /**
+   * Runs {@code body} on the export executor with the export time limit, so neither replaces
+   * the MVC-wide async defaults. Headers must be set on {@code response} beforehand.
+   */
+  public WebAsyncTask<Void> stream(StreamingResponseBody body, HttpServletResponse response) {
+    return new WebAsyncTask<>(TimeUnit.SECONDS.toMillis(timeoutSeconds), streamingExecutor, () -> {
+      body.writeTo(response.getOutputStream());
+      response.flushBuffer();
+      return null;
+    });
+  }
+
+  private IssueExportDto toDto(ExportRow row) {
+    return new IssueExportDto(
+        row.id(),
+        EntityMapper.issueKey(row.projectPrefix(), row.issueNumber()),
+        row.title(),
+        row.description(),
+        referenceData.statusName(row.statusId()),
+        referenceData.priorityName(row.priorityId()),
+        row.ownerUserId(),
+        row.assigneeUserId(),
+        row.tags(),
+        row.createdAt(),
+        row.updatedAt(),
+        row.closedAt()
+    );
+  }
+}
+
@@ -0,0 +1,126 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.isstrack.issue_tracker.api.dto.IssueExportDto;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes exported issues to a response stream one at a time. Output is buffered and only
+ * flushed by {@link #finish()}, which leaves closing the stream to the caller.
+ */
+abstract class IssueExportWriter {
+  static IssueExportWriter open(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+    return switch (format) {
+      case NDJSON -> new Ndjson(out, objectMapper);
+      case CSV -> new Csv(out);
+    };
+  }
+
+  abstract void write(IssueExportDto issue) throws IOException;
+
+  abstract void finish() throws IOException;
+
+  private static final class Ndjson extends IssueExportWriter {
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+      this.generator = objectMapper.getFactory().createGenerator(out);
+      this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      this.generator.setRootValueSeparator(null);
+      this.writer = objectMapper.writerFor(IssueExportDto.class)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    void write(IssueExportDto issue) throws IOException {
+      writer.writeValue(generator, issue);
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    void finish() throws IOException {
+      generator.flush();
+    }
+  }
+
+  /**
+   * RFC 4180 CSV. Cells that a spreadsheet would evaluate as a formula get a leading quote
+   * so exported titles cannot run as formulas when opened.
+   */
+  private static final class Csv extends IssueExportWriter {
+    private static final String HEADER =
+        "id,key,title,description,status,priority,owner_user_id,assignee_user_id,tags,created_at,updated_at,closed_at";
+
+    private final Writer out;
+
+    Csv(OutputStream out) throws IOException {
+      this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      this.out.write(HEADER);
+      this.out.write("\r\n");
+    }
+
+    @Override
+    void write(IssueExportDto issue) throws IOException {
+      List<String> cells = List.of(
+          text(issue.id()),
+          text(issue.issueKey()),
+          text(issue.title()),
+          text(issue.description()),
+          text(issue.status()),
+          text(issue.priority()),
+          text(issue.ownerUserId()),
+          text(issue.assigneeUserId()),
+          String.join(";", issue.tags()),
+          text(issue.createdAt()),
+          text(issue.updatedAt()),
+          text(issue.closedAt())
+      );
+      for (int i = 0; i < cells.size(); i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        out.write(escape(cells.get(i)));
+      }
+      out.write("\r\n");
+    }
+
+    @Override
+    void finish() throws IOException {
+      out.flush();
+    }
+
+    static String escape(String cell) {
+      if (!cell.isEmpty() && "=+-@\t\r".indexOf(cell.charAt(0)) >= 0) {
+        cell = "'" + cell;
+      }
+      if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+        return cell;
+      }
+      return '"' + cell.replace("\"", "\"\"") + '"';
+    }
+
+    private static String text(Object value) {
+      if (value == null) {
+        return "";
+      }
+      return value instanceof Instant instant ? instant.toString() : value.toString();
+    }
+  }
+}
+
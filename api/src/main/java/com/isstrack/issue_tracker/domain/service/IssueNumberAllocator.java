@@ -0,0 +1,84 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out per-project issue numbers from a Postgres sequence per project.
+ * Callers that queue up while a reservation is in flight are served from the
+ * same round trip, so concurrent creates on one project share a single nextval call.
+ */
+@Component
+public class IssueNumberAllocator {
+  private static final String SEQUENCE_PREFIX = "issue_number_seq_";
+  private static final String RESERVE_SQL = "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int maxBlockSize;
+  private final Map<Long, Block> blocks = new ConcurrentHashMap<>();
+
+  public IssueNumberAllocator(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.issues.number-block-max:64}") int maxBlockSize
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.maxBlockSize = Math.max(1, maxBlockSize);
+  }
+
+  public void createSequence(long projectId) {
+    jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceName(projectId) + " MINVALUE 1");
+  }
+
+  public int nextNumber(long projectId) {
+    var block = blocks.computeIfAbsent(projectId, id -> new Block());
+    block.lock.lock();
+    try {
+      if (block.isExhausted()) {
+        int demand = Math.min(maxBlockSize, 1 + block.lock.getQueueLength());
+        block.refill(reserveNumbers(projectId, demand));
+      }
+      return block.take();
+    } finally {
+      block.lock.unlock();
+    }
+  }
+
+  public int[] reserveNumbers(long projectId, int count) {
+    List<Long> values = jdbcTemplate.queryForList(RESERVE_SQL, Long.class, sequenceName(projectId), count);
+    return values.stream().mapToInt(Long::intValue).sorted().toArray();
+  }
+
+  private static String sequenceName(long projectId) {
+    return SEQUENCE_PREFIX + projectId;
+  }
+
+  private static final class Block {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int[] numbers = new int[0];
+    private int index;
+
+    private boolean isExhausted() {
+      return index >= numbers.length;
+    }
+
+    private void refill(int[] reserved) {
+      numbers = reserved;
+      index = 0;
+    }
+
+    private int take() {
+      return numbers[index++];
+    }
+  }
+}
+
@@ -5,78 +5,417 @@
  */
 package com.isstrack.issue_tracker.domain.service;
 
+import com.isstrack.issue_tracker.api.dto.BoardColumnDto;
+import com.isstrack.issue_tracker.api.dto.BoardDto;
 import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.IssueSearchResultDto;
+import com.isstrack.issue_tracker.api.dto.IssueSuggestionDto;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
 import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.domain.model.IssueFilter.TagMatch;
 import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.BoardQuery;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.BoardRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
 import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository.SearchFilter;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository.SearchHit;
 import com.isstrack.issue_tracker.persistence.repo.IssueTagRepository;
 import com.isstrack.issue_tracker.persistence.spec.IssueSpecifications;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import org.springframework.data.domain.Page;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 @Service
 public class IssueQueryService {
+  private static final Pattern ISSUE_NUMBER = Pattern.compile("(?:[A-Za-z][A-Za-z0-9]*-)?0*(\\d{1,9})");
+
   private final IssueRepository issueRepository;
   private final IssueTagRepository issueTagRepository;
   private final ProjectAccessService accessService;
+  private final ReferenceDataRegistry referenceData;
+  private final TagService tagService;
+  private final ChangeTracker changeTracker;
+  private final PageCounter pageCounter;
+  private final IssueSearchRepository searchRepository;
+  private final IssueTitleIndex titleIndex;
+  private final IssueBoardRepository boardRepository;
 
   public IssueQueryService(
       IssueRepository issueRepository,
       IssueTagRepository issueTagRepository,
-      ProjectAccessService accessService
+      ProjectAccessService accessService,
+      ReferenceDataRegistry referenceData,
+      TagService tagService,
+      ChangeTracker changeTracker,
+      PageCounter pageCounter,
+      IssueSearchRepository searchRepository,
+      IssueTitleIndex titleIndex,
+      IssueBoardRepository boardRepository
   ) {
     this.issueRepository = issueRepository;
     this.issueTagRepository = issueTagRepository;
     this.accessService = accessService;
+    this.referenceData = referenceData;
+    this.tagService = tagService;
+    this.changeTracker = changeTracker;
+    this.pageCounter = pageCounter;
+    this.searchRepository = searchRepository;
+    this.titleIndex = titleIndex;
+    this.boardRepository = boardRepository;
+  }
+
+  public String listIssuesEtag(long userId, long projectId) {
+    accessService.requireActiveMember(userId, projectId);
+    return changeTracker.projectTag(projectId);
   }
 
   @Transactional(readOnly = true)
   public PageResponse<IssueDto> listIssues(
       long userId,
       long projectId,
-      String status,
-      String priority,
-      Long assigneeId,
-      String tag,
-      String query,
-      Pageable pageable
+      IssueFilter filter,
+      Pageable pageable,
+      CountMode countMode
+  ) {
+    accessService.requireActiveMember(userId, projectId);
+    var spec = filterSpec(projectId, filter);
+    var page = issueRepository.findListSlice(spec, pageable);
+    var items = toIssueDtos(page.getContent());
+    var countKey = "issues:" + projectId + ":" + filter;
+    return pageCounter.response(page, items, countMode, countKey, () -> issueRepository.count(spec));
+  }
+
+  /**
+   * Keyset variant of {@link #listIssues}: seeks past the cursor on {@code (sort key, id)}
+   * instead of skipping rows, and skips the count, so every page costs the same.
+   * Totals are reported as -1.
+   */
+  @Transactional(readOnly = true)
+  public PageResponse<IssueDto> listIssuesByCursor(
+      long userId,
+      long projectId,
+      IssueFilter filter,
+      Sort sort,
+      String cursor,
+      int size
   ) {
     accessService.requireActiveMember(userId, projectId);
+    var order = sort.iterator().next();
+    var position = cursor == null || cursor.isBlank() ? null : IssueCursor.decode(cursor);
+    if (position != null && !position.matches(order)) {
+      throw new BadRequestException("Cursor was issued for a different sort");
+    }
+    boolean backward = position != null && position.backward();
+    boolean ascending = order.isAscending() != backward;
+    var direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+    var spec = filterSpec(projectId, filter);
+    if (position != null) {
+      spec = spec.and(position.seek(ascending));
+    }
+    var scanSort = Sort.by(direction, order.getProperty()).and(Sort.by(direction, "id"));
+    var rows = issueRepository.findListRows(spec, scanSort, size + 1);
+    boolean hasMore = rows.size() > size;
+    List<IssueListRow> issues = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+    if (backward) {
+      Collections.reverse(issues);
+    }
+
+    String nextCursor = null;
+    String prevCursor = null;
+    if (!issues.isEmpty()) {
+      var first = issues.get(0);
+      var last = issues.get(issues.size() - 1);
+      if (backward || hasMore) {
+        nextCursor = IssueCursor.at(last, order, false).encode();
+      }
+      if (backward ? hasMore : position != null) {
+        prevCursor = IssueCursor.at(first, order, true).encode();
+      }
+    }
+    return new PageResponse<>(toIssueDtos(issues), 0, size, -1, -1, nextCursor != null, nextCursor, prevCursor);
+  }
+
+  /**
+   * Ranked full-text search over title, description and comments, narrowed by the same
+   * filters as {@link #listIssues}. Snippets are HTML-escaped with matches in {@code <mark>}.
+   */
+  @Transactional(readOnly = true)
+  public PageResponse<IssueSearchResultDto> searchIssues(
+      long userId,
+      long projectId,
+      String text,
+      IssueFilter filter,
+      Pageable pageable,
+      CountMode countMode
+  ) {
+    accessService.requireActiveMember(userId, projectId);
+    if (text == null || text.isBlank()) {
+      throw new BadRequestException("Search text is required");
+    }
+    var ids = resolve(filter);
+    if (ids.isEmpty()) {
+      return new PageResponse<>(List.of(), pageable.getPageNumber(), pageable.getPageSize(), 0, 0);
+    }
+    var searchFilter = new SearchFilter(
+        projectId,
+        text.trim(),
+        filter,
+        ids.get().statusIds(),
+        ids.get().priorityIds(),
+        ids.get().tagIds()
+    );
+
+    var hits = searchRepository.search(searchFilter, pageable.getOffset(), pageable.getPageSize() + 1);
+    boolean hasNext = hits.size() > pageable.getPageSize();
+    var pageHits = hasNext ? hits.subList(0, pageable.getPageSize()) : hits;
+    Map<Long, IssueListRow> issuesById = new HashMap<>();
+    var hitIds = pageHits.stream().map(SearchHit::issueId).toList();
+    for (var issue : issueRepository.findListRows(IssueSpecifications.byIds(hitIds), Sort.unsorted(), hitIds.size())) {
+      issuesById.put(issue.id(), issue);
+    }
+    List<SearchHit> found = pageHits.stream().filter(hit -> issuesById.containsKey(hit.issueId())).toList();
+    var issues = toIssueDtos(found.stream().map(hit -> issuesById.get(hit.issueId())).toList());
+    List<IssueSearchResultDto> items = new ArrayList<>(found.size());
+    for (int i = 0; i < found.size(); i++) {
+      var hit = found.get(i);
+      items.add(new IssueSearchResultDto(issues.get(i), hit.rank(), highlight(hit.snippet())));
+    }
+    var slice = new SliceImpl<>(found, pageable, hasNext);
+    var countKey = "search:" + searchFilter;
+    return pageCounter.response(slice, items, countMode, countKey, () -> searchRepository.count(searchFilter));
+  }
+
+  /**
+   * Kanban board: the first {@code limit} issues of every status column in {@code updatedAt}
+   * descending order, plus the column total, in one query. Passing column cursors returns only
+   * those columns, each continuing after its cursor.
+   */
+  @Transactional(readOnly = true)
+  public BoardDto board(long userId, long projectId, IssueFilter filter, List<String> cursors, int limit) {
+    accessService.requireActiveMember(userId, projectId);
+    var resolved = resolve(filter);
+    if (resolved.isEmpty()) {
+      return new BoardDto(projectId, List.of());
+    }
+    var ids = resolved.get();
+    Map<Short, BoardCursor> starts = new LinkedHashMap<>();
+    for (var cursor : cursors) {
+      var position = BoardCursor.decode(cursor);
+      if (referenceData.statusName(position.statusId()) == null) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      if (ids.statusIds().isEmpty() || ids.statusIds().contains(position.statusId())) {
+        starts.putIfAbsent(position.statusId(), position);
+      }
+    }
+    if (!cursors.isEmpty() && starts.isEmpty()) {
+      return new BoardDto(projectId, List.of());
+    }
+
+    var rows = boardRepository.findBoard(new BoardQuery(
+        projectId,
+        filter,
+        ids.statusIds(),
+        ids.priorityIds(),
+        ids.tagIds(),
+        starts.values().stream().map(BoardCursor::start).toList(),
+        limit + 1
+    ));
+    Map<Short, List<BoardRow>> rowsByStatus = new LinkedHashMap<>();
+    for (var row : rows) {
+      var column = rowsByStatus.computeIfAbsent(row.statusId(), key -> new ArrayList<>());
+      if (row.issue() != null) {
+        column.add(row);
+      }
+    }
+    Map<Short, Long> totals = new HashMap<>();
+    rows.forEach(row -> totals.put(row.statusId(), row.total()));
+
+    List<BoardColumnDto> columns = new ArrayList<>(rowsByStatus.size());
+    rowsByStatus.forEach((statusId, columnRows) -> {
+      boolean hasMore = columnRows.size() > limit;
+      var page = hasMore ? columnRows.subList(0, limit) : columnRows;
+      List<IssueDto> items = new ArrayList<>(page.size());
+      for (var row : page) {
+        List<String> tags = new ArrayList<>(row.tagIds().size());
+        for (int i = 0; i < row.tagIds().size(); i++) {
+          tags.add(tagService.canonicalName(row.tagIds().get(i), row.tagNames().get(i)));
+        }
+        items.add(toIssueDto(row.issue(), tags));
+      }
+      String nextCursor = hasMore ? BoardCursor.after(page.get(page.size() - 1).issue()).encode() : null;
+      columns.add(new BoardColumnDto(referenceData.statusName(statusId), totals.get(statusId), items, nextCursor));
+    });
+    return new BoardDto(projectId, columns);
+  }
+
+  /**
+   * Type-ahead over issue keys and titles. Served from {@link IssueTitleIndex} once the project
+   * is loaded; until then a title substring or issue-number match in SQL.
+   */
+  @Transactional(readOnly = true)
+  public List<IssueSuggestionDto> suggestIssues(long userId, long projectId, String text, int limit) {
+    accessService.requireActiveMember(userId, projectId);
+    if (!hasText(text)) {
+      return List.of();
+    }
+    var indexed = titleIndex.suggest(projectId, text, limit);
+    if (indexed.isPresent()) {
+      return indexed.get();
+    }
+    var trimmed = text.trim();
+    var numberMatch = ISSUE_NUMBER.matcher(trimmed);
+    Integer issueNumber = numberMatch.matches() ? Integer.valueOf(numberMatch.group(1)) : null;
+    return issueRepository.searchSuggestions(
+            projectId,
+            "%" + trimmed.toLowerCase(Locale.ROOT) + "%",
+            issueNumber,
+            PageRequest.of(0, limit)
+        )
+        .stream()
+        .map(row -> new IssueSuggestionDto(
+            row.getId(),
+            EntityMapper.issueKey(row.getPrefix(), row.getIssueNumber()),
+            row.getTitle()
+        ))
+        .toList();
+  }
+
+  static String highlight(String snippet) {
+    if (snippet == null) {
+      return null;
+    }
+    return HtmlUtils.htmlEscape(snippet)
+        .replace(IssueSearchRepository.MATCH_START, "<mark>")
+        .replace(IssueSearchRepository.MATCH_END, "</mark>");
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private Specification<IssueEntity> filterSpec(long projectId, IssueFilter filter) {
     Specification<IssueEntity> spec = IssueSpecifications.byProjectId(projectId);
-    if (status != null && !status.isBlank()) {
-      spec = spec.and(IssueSpecifications.byStatusName(status));
+    var resolved = resolve(filter);
+    if (resolved.isEmpty()) {
+      return spec.and(IssueSpecifications.none());
     }
-    if (priority != null && !priority.isBlank()) {
-      spec = spec.and(IssueSpecifications.byPriorityName(priority));
+    var ids = resolved.get();
+    if (!ids.statusIds().isEmpty()) {
+      spec = spec.and(IssueSpecifications.byStatusIds(ids.statusIds()));
     }
-    if (assigneeId != null) {
-      spec = spec.and(IssueSpecifications.byAssigneeId(assigneeId));
+    if (!ids.priorityIds().isEmpty()) {
+      spec = spec.and(IssueSpecifications.byPriorityIds(ids.priorityIds()));
     }
-    if (tag != null && !tag.isBlank()) {
-      spec = spec.and(IssueSpecifications.byTagName(tag));
+    if (filter.filtersAssignee()) {
+      spec = spec.and(IssueSpecifications.byAssignees(filter.assigneeIds(), filter.unassigned()));
     }
-    if (query != null && !query.isBlank()) {
-      spec = spec.and(IssueSpecifications.byTitleQuery(query.trim()));
+    if (!ids.tagIds().isEmpty()) {
+      spec = spec.and(filter.tagMatch() == TagMatch.ALL
+          ? IssueSpecifications.withAllTags(ids.tagIds())
+          : IssueSpecifications.withAnyTag(ids.tagIds()));
     }
+    if (filter.query() != null) {
+      spec = spec.and(IssueSpecifications.byTitleQuery(filter.query()));
+    }
+    if (filter.createdFrom() != null || filter.createdTo() != null) {
+      spec = spec.and(IssueSpecifications.byInstantRange("createdAt", filter.createdFrom(), filter.createdTo()));
+    }
+    if (filter.updatedFrom() != null || filter.updatedTo() != null) {
+      spec = spec.and(IssueSpecifications.byInstantRange("updatedAt", filter.updatedFrom(), filter.updatedTo()));
+    }
+    if (filter.closedFrom() != null || filter.closedTo() != null) {
+      spec = spec.and(IssueSpecifications.byInstantRange("closedAt", filter.closedFrom(), filter.closedTo()));
+    }
+    return spec;
+  }
+
+  /**
+   * Resolves filter names to ids. Unknown names are dropped; empty when a filter can no longer
+   * match anything (every status unknown, or an ALL tag that does not exist).
+   */
+  Optional<FilterIds> resolve(IssueFilter filter) {
+    List<Short> statusIds = filter.statuses().stream()
+        .map(referenceData::statusId)
+        .flatMap(Optional::stream)
+        .distinct()
+        .toList();
+    List<Short> priorityIds = filter.priorities().stream()
+        .map(referenceData::priorityId)
+        .flatMap(Optional::stream)
+        .distinct()
+        .toList();
+    if ((statusIds.isEmpty() && !filter.statuses().isEmpty())
+        || (priorityIds.isEmpty() && !filter.priorities().isEmpty())) {
+      return Optional.empty();
+    }
+    List<Long> tagIds = List.of();
+    if (!filter.tags().isEmpty()) {
+      var found = tagService.lookupIds(filter.tags());
+      boolean allRequired = filter.tagMatch() == TagMatch.ALL;
+      if (found.isEmpty() || (allRequired && found.size() < tagService.normalize(filter.tags()).size())) {
+        return Optional.empty();
+      }
+      tagIds = List.copyOf(found.values());
+    }
+    return Optional.of(new FilterIds(statusIds, priorityIds, tagIds));
+  }
 
-    Page<IssueEntity> page = issueRepository.findAll(spec, pageable);
-    List<Long> issueIds = page.stream().map(IssueEntity::getId).toList();
+  /** Issues of one project by id, in id order; ids from other projects are ignored. */
+  List<IssueDto> issuesByIds(long projectId, Collection<Long> issueIds) {
+    if (issueIds.isEmpty()) {
+      return List.of();
+    }
+    var spec = IssueSpecifications.byProjectId(projectId).and(IssueSpecifications.byIds(issueIds));
+    return toIssueDtos(issueRepository.findListRows(spec, Sort.by("id"), issueIds.size()));
+  }
+
+  private List<IssueDto> toIssueDtos(List<IssueListRow> issues) {
+    List<Long> issueIds = issues.stream().map(IssueListRow::id).toList();
     Map<Long, List<String>> tagMap = loadTags(issueIds);
-    List<IssueDto> items = new ArrayList<>();
-    for (IssueEntity issue : page) {
-      var tags = tagMap.getOrDefault(issue.getId(), List.of());
-      items.add(EntityMapper.toIssueDto(issue, tags));
+    List<IssueDto> items = new ArrayList<>(issues.size());
+    for (var issue : issues) {
+      items.add(toIssueDto(issue, tagMap.getOrDefault(issue.id(), List.of())));
     }
-    return new PageResponse<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    return items;
+  }
+
+  private IssueDto toIssueDto(IssueListRow issue, List<String> tags) {
+    return new IssueDto(
+        issue.id(),
+        issue.projectId(),
+        issue.issueNumber(),
+        EntityMapper.issueKey(issue.projectPrefix(), issue.issueNumber()),
+        issue.title(),
+        referenceData.statusName(issue.statusId()),
+        referenceData.priorityName(issue.priorityId()),
+        issue.ownerUserId(),
+        issue.assigneeUserId(),
+        tags,
+        issue.updatedAt()
+    );
   }
 
   private Map<Long, List<String>> loadTags(List<Long> issueIds) {
@@ -86,10 +425,13 @@ public class IssueQueryService {
     }
     for (Object[] row : issueTagRepository.findIssueTagsByIssueIds(issueIds)) {
       Long issueId = (Long) row[0];
-      String tag = Objects.toString(row[1]);
+      String tag = tagService.canonicalName((Long) row[2], Objects.toString(row[1]));
       tagMap.computeIfAbsent(issueId, key -> new ArrayList<>()).add(tag);
     }
     return tagMap;
   }
+
+  record FilterIds(List<Short> statusIds, List<Short> priorityIds, List<Long> tagIds) {
+  }
 }
 
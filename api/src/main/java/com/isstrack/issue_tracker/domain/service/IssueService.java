@@ -12,23 +12,27 @@ import com.isstrack.issue_tracker.api.error.BadRequestException;
 import com.isstrack.issue_tracker.api.error.NotFoundException;
 import com.isstrack.issue_tracker.domain.event.IssueCreatedEvent;
 import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssuesBulkCreatedEvent;
 import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
 import com.isstrack.issue_tracker.domain.model.MembershipStatus;
 import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
-import com.isstrack.issue_tracker.persistence.entity.IssueTagEntity;
 import com.isstrack.issue_tracker.persistence.entity.PriorityEntity;
 import com.isstrack.issue_tracker.persistence.entity.StatusEntity;
 import com.isstrack.issue_tracker.persistence.entity.TagEntity;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository;
 import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
 import com.isstrack.issue_tracker.persistence.repo.IssueTagRepository;
-import com.isstrack.issue_tracker.persistence.repo.PriorityRepository;
 import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
 import com.isstrack.issue_tracker.persistence.repo.ProjectRepository;
-import com.isstrack.issue_tracker.persistence.repo.StatusRepository;
 import com.isstrack.issue_tracker.persistence.repo.UserRepository;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -43,8 +47,7 @@ public class IssueService {
   private final IssueRepository issueRepository;
   private final IssueTagRepository issueTagRepository;
   private final ProjectRepository projectRepository;
-  private final StatusRepository statusRepository;
-  private final PriorityRepository priorityRepository;
+  private final ReferenceDataRegistry referenceData;
   private final UserRepository userRepository;
   private final ProjectMembershipRepository membershipRepository;
   private final ProjectAccessService accessService;
@@ -52,26 +55,30 @@ public class IssueService {
   private final ActivityService activityService;
   private final ApplicationEventPublisher eventPublisher;
   private final NotificationService notificationService;
+  private final IssueNumberAllocator issueNumberAllocator;
+  private final IssueBatchRepository issueBatchRepository;
+  private final IssueStatsService issueStats;
 
   public IssueService(
       IssueRepository issueRepository,
       IssueTagRepository issueTagRepository,
       ProjectRepository projectRepository,
-      StatusRepository statusRepository,
-      PriorityRepository priorityRepository,
+      ReferenceDataRegistry referenceData,
       UserRepository userRepository,
       ProjectMembershipRepository membershipRepository,
       ProjectAccessService accessService,
       TagService tagService,
       ActivityService activityService,
       ApplicationEventPublisher eventPublisher,
-      NotificationService notificationService
+      NotificationService notificationService,
+      IssueNumberAllocator issueNumberAllocator,
+      IssueBatchRepository issueBatchRepository,
+      IssueStatsService issueStats
   ) {
     this.issueRepository = issueRepository;
     this.issueTagRepository = issueTagRepository;
     this.projectRepository = projectRepository;
-    this.statusRepository = statusRepository;
-    this.priorityRepository = priorityRepository;
+    this.referenceData = referenceData;
     this.userRepository = userRepository;
     this.membershipRepository = membershipRepository;
     this.accessService = accessService;
@@ -79,6 +86,9 @@ public class IssueService {
     this.activityService = activityService;
     this.eventPublisher = eventPublisher;
     this.notificationService = notificationService;
+    this.issueNumberAllocator = issueNumberAllocator;
+    this.issueBatchRepository = issueBatchRepository;
+    this.issueStats = issueStats;
   }
 
   @Transactional
@@ -88,8 +98,7 @@ public class IssueService {
         .orElseThrow(() -> new NotFoundException("Project not found"));
     var owner = userRepository.findById(userId)
         .orElseThrow(() -> new NotFoundException("User not found"));
-    var status = statusRepository.findByNameIgnoreCase("OPEN")
-        .orElseThrow(() -> new NotFoundException("Status not found"));
+    var status = openStatus();
     var priority = findPriority(request.priority());
     var issue = new IssueEntity();
     issue.setProject(project);
@@ -103,19 +112,99 @@ public class IssueService {
       issue.setAssignee(userRepository.findById(request.assigneeUserId())
           .orElseThrow(() -> new BadRequestException("Assignee user does not exist")));
     }
-    int nextNumber = issueRepository.countByProjectId(projectId) + 1;
-    issue.setIssueNumber(nextNumber);
+    issue.setIssueNumber(issueNumberAllocator.nextNumber(projectId));
     var saved = issueRepository.save(issue);
-    var tags = tagService.normalizeAndSave(request.tags());
+    var tags = sortedById(tagService.normalizeAndSave(request.tags()));
     saveIssueTags(saved, tags);
+    issueStats.issuesCreated(projectId, List.of(facets(saved)));
     activityService.logActivity(saved, owner, "Issue created");
-    var tagNames = tags.stream().map(TagEntity::getName).toList();
-    var dto = EntityMapper.toIssueDto(saved, tagNames);
+    var dto = toIssueDto(saved, tagNamesInIdOrder(tags));
     eventPublisher.publishEvent(new IssueCreatedEvent(projectId, saved.getId(), dto, Instant.now()));
     log.info("Created issue {}", saved.getId());
     return dto;
   }
 
+  @Transactional
+  public List<IssueDto> createIssues(long userId, long projectId, List<CreateIssueRequest> requests) {
+    accessService.requireActiveMember(userId, projectId);
+    var project = projectRepository.findById(projectId)
+        .orElseThrow(() -> new NotFoundException("Project not found"));
+    short statusId = referenceData.statusId("OPEN")
+        .orElseThrow(() -> new NotFoundException("Status not found"));
+    var statusName = referenceData.statusName(statusId);
+
+    List<Short> priorityIds = new ArrayList<>(requests.size());
+    List<Set<String>> tagNamesPerIssue = new ArrayList<>(requests.size());
+    Set<Long> assigneeIds = new HashSet<>();
+    Set<String> allTagNames = new HashSet<>();
+    for (var request : requests) {
+      priorityIds.add(referenceData.priorityId(request.priority())
+          .orElseThrow(() -> new BadRequestException("Invalid priority")));
+      if (request.assigneeUserId() != null) {
+        assigneeIds.add(request.assigneeUserId());
+      }
+      var tagNames = tagService.normalize(request.tags());
+      tagNamesPerIssue.add(tagNames);
+      allTagNames.addAll(tagNames);
+    }
+    validateAssignees(projectId, assigneeIds);
+    var tags = tagService.resolve(allTagNames);
+
+    var ids = issueBatchRepository.reserveIssueIds(requests.size());
+    var numbers = issueNumberAllocator.reserveNumbers(projectId, requests.size());
+    var now = Instant.now();
+    List<IssueBatchRepository.IssueRow> issueRows = new ArrayList<>(requests.size());
+    List<IssueBatchRepository.IssueTagRow> tagRows = new ArrayList<>();
+    List<IssueBatchRepository.ActivityRow> activityRows = new ArrayList<>(requests.size());
+    List<IssueDto> dtos = new ArrayList<>(requests.size());
+    List<IssueStatsService.IssueFacets> facets = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      var request = requests.get(i);
+      short priorityId = priorityIds.get(i);
+      long issueId = ids.get(i);
+      var title = request.title().trim();
+      issueRows.add(new IssueBatchRepository.IssueRow(
+          issueId,
+          projectId,
+          numbers[i],
+          title,
+          request.description(),
+          statusId,
+          priorityId,
+          userId,
+          request.assigneeUserId(),
+          now
+      ));
+      var issueTags = sortedById(tagNamesPerIssue.get(i).stream().map(tags::get).toList());
+      for (var tag : issueTags) {
+        tagRows.add(new IssueBatchRepository.IssueTagRow(issueId, tag.getId()));
+      }
+      var tagNames = tagNamesInIdOrder(issueTags);
+      activityRows.add(new IssueBatchRepository.ActivityRow(issueId, userId, "Issue created", now));
+      facets.add(new IssueStatsService.IssueFacets(statusId, priorityId, request.assigneeUserId()));
+      dtos.add(new IssueDto(
+          issueId,
+          projectId,
+          numbers[i],
+          EntityMapper.issueKey(project.getPrefix(), numbers[i]),
+          title,
+          statusName,
+          referenceData.priorityName(priorityId),
+          userId,
+          request.assigneeUserId(),
+          tagNames,
+          now
+      ));
+    }
+    issueBatchRepository.insertIssues(issueRows);
+    issueBatchRepository.insertIssueTags(tagRows);
+    issueBatchRepository.insertActivity(activityRows);
+    issueStats.issuesCreated(projectId, facets);
+    eventPublisher.publishEvent(new IssuesBulkCreatedEvent(projectId, dtos, now));
+    log.info("Created {} issues in project {}", dtos.size(), projectId);
+    return dtos;
+  }
+
   @Transactional
   public IssueDto updateIssue(long userId, long issueId, PatchIssueRequest request) {
     var issue = issueRepository.findById(issueId)
@@ -123,6 +212,7 @@ public class IssueService {
     accessService.requireActiveMember(userId, issue.getProject().getId());
     var actor = userRepository.findById(userId)
         .orElseThrow(() -> new NotFoundException("User not found"));
+    var facetsBefore = facets(issue);
 
     boolean changed = false;
     if (request.title() != null) {
@@ -137,9 +227,10 @@ public class IssueService {
     }
     if (request.status() != null) {
       var status = findStatus(request.status());
+      var statusName = referenceData.statusName(status.getStatusId());
       issue.setStatus(status);
-      activityService.logActivity(issue, actor, "Status changed to " + status.getName());
-      if ("CLOSED".equalsIgnoreCase(status.getName())) {
+      activityService.logActivity(issue, actor, "Status changed to " + statusName);
+      if ("CLOSED".equalsIgnoreCase(statusName)) {
         issue.setClosedAt(java.time.Instant.now());
       }
       changed = true;
@@ -147,7 +238,7 @@ public class IssueService {
     if (request.priority() != null) {
       var priority = findPriority(request.priority());
       issue.setPriority(priority);
-      activityService.logActivity(issue, actor, "Priority changed to " + priority.getName());
+      activityService.logActivity(issue, actor, "Priority changed to " + referenceData.priorityName(priority.getPriorityId()));
       changed = true;
     }
     if (Boolean.TRUE.equals(request.clearAssignee())) {
@@ -170,39 +261,64 @@ public class IssueService {
     }
     List<String> tagNames = null;
     if (request.tags() != null) {
-      var tags = tagService.normalizeAndSave(request.tags());
-      issueTagRepository.deleteByIssue_Id(issue.getId());
-      saveIssueTags(issue, tags);
-      tagNames = tags.stream().map(TagEntity::getName).toList();
-      activityService.logActivity(issue, actor, "Tags updated");
-      changed = true;
+      var tagUpdate = updateIssueTags(issue.getId(), request.tags());
+      tagNames = tagUpdate.tagNames();
+      if (tagUpdate.changed()) {
+        activityService.logActivity(issue, actor, "Tags updated");
+        changed = true;
+      }
     }
 
     if (!changed) {
-      var tags = loadTagNames(issue.getId());
-      return EntityMapper.toIssueDto(issue, tags);
+      return toIssueDto(issue, tagNames == null ? loadTagNames(issue.getId()) : tagNames);
     }
 
     var saved = issueRepository.save(issue);
+    issueStats.issueChanged(saved.getProject().getId(), facetsBefore, facets(saved));
     if (tagNames == null) {
       tagNames = loadTagNames(issue.getId());
     }
-    var dto = EntityMapper.toIssueDto(saved, tagNames);
+    var dto = toIssueDto(saved, tagNames);
     eventPublisher.publishEvent(new IssueUpdatedEvent(saved.getProject().getId(), saved.getId(), dto, Instant.now()));
     log.info("Updated issue {}", saved.getId());
     return dto;
   }
 
+  private StatusEntity openStatus() {
+    return referenceData.statusId("OPEN")
+        .map(referenceData::statusReference)
+        .orElseThrow(() -> new NotFoundException("Status not found"));
+  }
+
   private StatusEntity findStatus(String statusName) {
-    return statusRepository.findByNameIgnoreCase(statusName)
+    return referenceData.statusId(statusName)
+        .map(referenceData::statusReference)
         .orElseThrow(() -> new BadRequestException("Invalid status"));
   }
 
   private PriorityEntity findPriority(String priorityName) {
-    return priorityRepository.findByNameIgnoreCase(priorityName)
+    return referenceData.priorityId(priorityName)
+        .map(referenceData::priorityReference)
         .orElseThrow(() -> new BadRequestException("Invalid priority"));
   }
 
+  private static IssueStatsService.IssueFacets facets(IssueEntity issue) {
+    return new IssueStatsService.IssueFacets(
+        issue.getStatus().getStatusId(),
+        issue.getPriority().getPriorityId(),
+        issue.getAssignee() == null ? null : issue.getAssignee().getId()
+    );
+  }
+
+  private IssueDto toIssueDto(IssueEntity issue, List<String> tagNames) {
+    return EntityMapper.toIssueDto(
+        issue,
+        tagNames,
+        referenceData.statusName(issue.getStatus().getStatusId()),
+        referenceData.priorityName(issue.getPriority().getPriorityId())
+    );
+  }
+
   public void validateAssignee(long projectId, Long assigneeUserId) {
     if (!userRepository.existsById(assigneeUserId)) {
       throw new BadRequestException("Assignee user does not exist");
@@ -217,24 +333,81 @@ public class IssueService {
     }
   }
 
+  private void validateAssignees(long projectId, Set<Long> assigneeUserIds) {
+    if (assigneeUserIds.isEmpty()) {
+      return;
+    }
+    var activeMembers = new HashSet<>(membershipRepository.findUserIdsByProjectIdAndStatusAndUserIdIn(
+        projectId,
+        MembershipStatus.ACTIVE.name(),
+        assigneeUserIds
+    ));
+    for (Long assigneeUserId : assigneeUserIds) {
+      if (!activeMembers.contains(assigneeUserId)) {
+        validateAssignee(projectId, assigneeUserId);
+      }
+    }
+  }
+
   private void saveIssueTags(IssueEntity issue, List<TagEntity> tags) {
-    Set<IssueTagEntity> entities = new HashSet<>();
+    List<IssueBatchRepository.IssueTagRow> rows = new ArrayList<>(tags.size());
     for (var tag : tags) {
-      var join = new IssueTagEntity();
-      join.setIssue(issue);
-      join.setTag(tag);
-      join.setId(new IssueTagEntity.IssueTagId(issue.getId(), tag.getId()));
-      entities.add(join);
+      rows.add(new IssueBatchRepository.IssueTagRow(issue.getId(), tag.getId()));
     }
-    issueTagRepository.saveAll(entities);
-    issue.setIssueTags(entities);
+    issueBatchRepository.insertIssueTags(rows);
+  }
+
+  private TagUpdate updateIssueTags(long issueId, List<String> requestedTags) {
+    Map<String, Long> current = new HashMap<>();
+    for (Object[] row : issueTagRepository.findIssueTagsByIssueIds(List.of(issueId))) {
+      current.put(tagService.canonicalName((Long) row[2], Objects.toString(row[1])), (Long) row[2]);
+    }
+    var requested = tagService.normalize(requestedTags);
+    if (requested.equals(current.keySet())) {
+      var names = current.entrySet().stream()
+          .sorted(Map.Entry.comparingByValue())
+          .map(Map.Entry::getKey)
+          .toList();
+      return new TagUpdate(names, false);
+    }
+
+    var tags = tagService.resolve(requested);
+    Set<Long> currentIds = new HashSet<>(current.values());
+    Set<Long> requestedIds = new HashSet<>();
+    List<IssueBatchRepository.IssueTagRow> added = new ArrayList<>();
+    for (var tag : tags.values()) {
+      requestedIds.add(tag.getId());
+      if (!currentIds.contains(tag.getId())) {
+        added.add(new IssueBatchRepository.IssueTagRow(issueId, tag.getId()));
+      }
+    }
+    List<Long> removed = currentIds.stream()
+        .filter(tagId -> !requestedIds.contains(tagId))
+        .toList();
+    if (!removed.isEmpty()) {
+      issueTagRepository.deleteByIssueIdAndTagIds(issueId, removed);
+    }
+    issueBatchRepository.insertIssueTags(added);
+    return new TagUpdate(tagNamesInIdOrder(tags.values()), true);
   }
 
   private List<String> loadTagNames(Long issueId) {
     return issueTagRepository.findIssueTagsByIssueIds(List.of(issueId)).stream()
-        .map(row -> Objects.toString(row[1]))
+        .map(row -> tagService.canonicalName((Long) row[2], Objects.toString(row[1])))
         .toList();
   }
 
+  /** Tag order of every issue response: by tag id, as the list, board, detail and export queries. */
+  private static List<TagEntity> sortedById(Collection<TagEntity> tags) {
+    return tags.stream().sorted(Comparator.comparing(TagEntity::getId)).toList();
+  }
+
+  private static List<String> tagNamesInIdOrder(Collection<TagEntity> tags) {
+    return sortedById(tags).stream().map(TagEntity::getName).toList();
+  }
+
+  private record TagUpdate(List<String> tagNames, boolean changed) {
+  }
+
 }
 
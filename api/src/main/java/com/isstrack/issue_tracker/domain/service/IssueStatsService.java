@@ -0,0 +1,121 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.IssueStatsDto;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository.Facet;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository.StatDelta;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the project_issue_stats rollup in step with issue writes. Deltas are applied in the
+ * caller's transaction and in a fixed key order, so concurrent writers on the same project queue
+ * on the counter rows instead of deadlocking on them.
+ */
+@Service
+public class IssueStatsService {
+  private final ProjectIssueStatsRepository statsRepository;
+  private final ProjectAccessService accessService;
+  private final ReferenceDataRegistry referenceData;
+  private final ChangeTracker changeTracker;
+
+  public IssueStatsService(
+      ProjectIssueStatsRepository statsRepository,
+      ProjectAccessService accessService,
+      ReferenceDataRegistry referenceData,
+      ChangeTracker changeTracker
+  ) {
+    this.statsRepository = statsRepository;
+    this.accessService = accessService;
+    this.referenceData = referenceData;
+    this.changeTracker = changeTracker;
+  }
+
+  public void issuesCreated(long projectId, List<IssueFacets> issues) {
+    var deltas = new Deltas();
+    for (var issue : issues) {
+      deltas.add(issue, 1);
+    }
+    statsRepository.applyDeltas(projectId, deltas.toList());
+  }
+
+  public void issueChanged(long projectId, IssueFacets before, IssueFacets after) {
+    if (before.equals(after)) {
+      return;
+    }
+    var deltas = new Deltas();
+    deltas.add(before, -1);
+    deltas.add(after, 1);
+    statsRepository.applyDeltas(projectId, deltas.toList());
+  }
+
+  public String statsEtag(long userId, long projectId) {
+    accessService.requireActiveMember(userId, projectId);
+    return changeTracker.projectTag(projectId);
+  }
+
+  @Transactional(readOnly = true)
+  public IssueStatsDto stats(long userId, long projectId) {
+    accessService.requireActiveMember(userId, projectId);
+    long total = 0;
+    long unassigned = 0;
+    Map<String, Long> byStatus = new LinkedHashMap<>();
+    Map<String, Long> byPriority = new LinkedHashMap<>();
+    Map<Long, Long> byAssignee = new LinkedHashMap<>();
+    for (var row : statsRepository.findByProjectId(projectId)) {
+      switch (row.facet()) {
+        case STATUS -> {
+          byStatus.put(referenceData.statusName((short) row.valueId()), row.count());
+          total += row.count();
+        }
+        case PRIORITY -> byPriority.put(referenceData.priorityName((short) row.valueId()), row.count());
+        case ASSIGNEE -> {
+          if (row.valueId() == 0) {
+            unassigned = row.count();
+          } else {
+            byAssignee.put(row.valueId(), row.count());
+          }
+        }
+      }
+    }
+    return new IssueStatsDto(projectId, total, byStatus, byPriority, byAssignee, unassigned);
+  }
+
+  public record IssueFacets(short statusId, short priorityId, Long assigneeUserId) {
+  }
+
+  private static final class Deltas {
+    private final Map<Facet, Map<Long, Long>> byFacet = new TreeMap<>();
+
+    void add(IssueFacets issue, long delta) {
+      add(Facet.STATUS, issue.statusId(), delta);
+      add(Facet.PRIORITY, issue.priorityId(), delta);
+      add(Facet.ASSIGNEE, issue.assigneeUserId() == null ? 0 : issue.assigneeUserId(), delta);
+    }
+
+    private void add(Facet facet, long valueId, long delta) {
+      byFacet.computeIfAbsent(facet, key -> new TreeMap<>()).merge(valueId, delta, Long::sum);
+    }
+
+    List<StatDelta> toList() {
+      List<StatDelta> deltas = new ArrayList<>();
+      byFacet.forEach((facet, values) -> values.forEach((valueId, delta) -> {
+        if (delta != 0) {
+          deltas.add(new StatDelta(facet, valueId, delta));
+        }
+      }));
+      return deltas;
+    }
+  }
+}
+
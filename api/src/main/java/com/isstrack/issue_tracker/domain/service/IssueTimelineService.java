@@ -0,0 +1,85 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.TimelineEntryDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.api.error.NotFoundException;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueTimelineRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueTimelineRepository.TimelineRow;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Comments and activity of an issue as one keyset-paged stream in commit order (see
+ * {@link IssueTimelineRepository}). Without {@code since} pages run
+ * newest first: {@code nextCursor} continues with older entries and {@code prevCursor} marks the
+ * newest entry seen. With {@code since} (any cursor, or empty for the beginning) only newer
+ * entries come back, oldest first, and {@code nextCursor} is the watermark to pass next time.
+ * Totals are reported as -1.
+ */
+@Service
+public class IssueTimelineService {
+  private final IssueRepository issueRepository;
+  private final IssueTimelineRepository timelineRepository;
+  private final ProjectAccessService accessService;
+
+  public IssueTimelineService(
+      IssueRepository issueRepository,
+      IssueTimelineRepository timelineRepository,
+      ProjectAccessService accessService
+  ) {
+    this.issueRepository = issueRepository;
+    this.timelineRepository = timelineRepository;
+    this.accessService = accessService;
+  }
+
+  @Transactional(readOnly = true)
+  public PageResponse<TimelineEntryDto> timeline(long userId, long issueId, String cursor, String since, int limit) {
+    if (cursor != null && since != null) {
+      throw new BadRequestException("Use either cursor or since, not both");
+    }
+    var issue = issueRepository.findVersionById(issueId)
+        .orElseThrow(() -> new NotFoundException("Issue not found"));
+    accessService.requireActiveMember(userId, issue.getProjectId());
+
+    boolean newer = since != null;
+    String token = newer ? since : cursor;
+    Long from = token == null || token.isBlank() ? null : TimelineCursor.decode(token).seq();
+    List<TimelineRow> rows = timelineRepository.findEntries(issueId, from, newer, limit + 1);
+    boolean hasNext = rows.size() > limit;
+    if (hasNext) {
+      rows = rows.subList(0, limit);
+    }
+    var items = rows.stream().map(row -> toDto(issueId, row)).toList();
+
+    String nextCursor;
+    String prevCursor = null;
+    if (newer) {
+      nextCursor = rows.isEmpty() ? blankToNull(since) : encode(rows.get(rows.size() - 1));
+    } else {
+      nextCursor = hasNext ? encode(rows.get(rows.size() - 1)) : null;
+      prevCursor = rows.isEmpty() ? null : encode(rows.get(0));
+    }
+    return new PageResponse<>(items, 0, limit, -1, -1, hasNext, nextCursor, prevCursor);
+  }
+
+  private static TimelineEntryDto toDto(long issueId, TimelineRow row) {
+    return new TimelineEntryDto(row.kind().name(), row.id(), issueId, row.userId(), row.text(), row.createdAt());
+  }
+
+  private static String encode(TimelineRow row) {
+    return new TimelineCursor(row.seq()).encode();
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
+
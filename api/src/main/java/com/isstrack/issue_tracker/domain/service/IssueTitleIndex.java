@@ -0,0 +1,438 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.IssueSuggestionDto;
+import com.isstrack.issue_tracker.domain.event.DomainEvent;
+import com.isstrack.issue_tracker.domain.event.IssueCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssuesBulkCreatedEvent;
+import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-project inverted index over issue keys and titles for type-ahead. A project is loaded in
+ * the background on its first query and kept current from committed issue events; until it is
+ * ready {@link #suggest} returns empty and the caller falls back to SQL. Projects are evicted
+ * least-recently-used first once the estimated size passes {@code app.search.index.memory-budget-mb};
+ * the project that was just loaded or updated is never the one evicted. A project whose index alone
+ * exceeds the budget is dropped and remembered, and always falls back to SQL instead of reloading.
+ */
+@Component
+public class IssueTitleIndex {
+  private static final Logger log = LoggerFactory.getLogger(IssueTitleIndex.class);
+
+  private final IssueRepository issueRepository;
+  private final Executor loader;
+  private final long budgetBytes;
+  private final Map<Long, ProjectIndex> projects = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<Long> oversized = new HashSet<>();
+  private final Counter hits;
+  private final Counter fallbacks;
+
+  @Autowired
+  public IssueTitleIndex(
+      IssueRepository issueRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.search.index.memory-budget-mb:64}") long budgetMb
+  ) {
+    this(issueRepository, meterRegistry, budgetMb * 1024 * 1024, Executors.newSingleThreadExecutor(task -> {
+      var thread = new Thread(task, "issue-title-index");
+      thread.setDaemon(true);
+      return thread;
+    }));
+  }
+
+  IssueTitleIndex(IssueRepository issueRepository, MeterRegistry meterRegistry, long budgetBytes, Executor loader) {
+    this.issueRepository = issueRepository;
+    this.loader = loader;
+    this.budgetBytes = budgetBytes;
+    this.hits = Counter.builder("search.index.queries").tag("result", "index").register(meterRegistry);
+    this.fallbacks = Counter.builder("search.index.queries").tag("result", "fallback").register(meterRegistry);
+  }
+
+  public Optional<List<IssueSuggestionDto>> suggest(long projectId, String query, int limit) {
+    ProjectIndex index;
+    synchronized (projects) {
+      index = projects.get(projectId);
+      if (index == null && oversized.contains(projectId)) {
+        fallbacks.increment();
+        return Optional.empty();
+      }
+      if (index == null) {
+        var created = new ProjectIndex();
+        projects.put(projectId, created);
+        loader.execute(() -> load(projectId, created));
+        index = created;
+      }
+    }
+    if (!index.isReady()) {
+      fallbacks.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(index.search(tokens(query), limit));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onEvent(DomainEvent event) {
+    if (event instanceof IssueCreatedEvent ev) {
+      apply(ev.projectId(), List.of(ev.payload()));
+    } else if (event instanceof IssueUpdatedEvent ev) {
+      apply(ev.projectId(), List.of(ev.payload()));
+    } else if (event instanceof IssuesBulkCreatedEvent ev) {
+      apply(ev.projectId(), ev.payload());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (loader instanceof ExecutorService executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  boolean isLoaded(long projectId) {
+    synchronized (projects) {
+      var index = projects.get(projectId);
+      return index != null && index.isReady();
+    }
+  }
+
+  private void apply(Long projectId, List<IssueDto> issues) {
+    ProjectIndex index;
+    synchronized (projects) {
+      index = projects.get(projectId);
+    }
+    if (index == null) {
+      return;
+    }
+    for (var issue : issues) {
+      index.upsert(issue.id(), issue.issueKey(), issue.title());
+    }
+    enforceBudget(projectId);
+  }
+
+  private void load(long projectId, ProjectIndex index) {
+    try {
+      var rows = issueRepository.findSuggestionsByProjectId(projectId);
+      index.load(rows.stream()
+          .map(row -> new IssueSuggestionDto(
+              row.getId(),
+              EntityMapper.issueKey(row.getPrefix(), row.getIssueNumber()),
+              row.getTitle()
+          ))
+          .toList());
+      log.info("Indexed {} issue titles for project {} (~{} KiB)", rows.size(), projectId, index.bytes() / 1024);
+      enforceBudget(projectId);
+    } catch (RuntimeException ex) {
+      log.warn("Failed to index issue titles for project {}", projectId, ex);
+      synchronized (projects) {
+        projects.remove(projectId, index);
+      }
+    }
+  }
+
+  boolean isOversized(long projectId) {
+    synchronized (projects) {
+      return oversized.contains(projectId);
+    }
+  }
+
+  private void enforceBudget(long current) {
+    synchronized (projects) {
+      var own = projects.get(current);
+      if (own != null && own.isReady() && own.bytes() > budgetBytes) {
+        projects.remove(current);
+        oversized.add(current);
+        log.info("Issue title index for project {} exceeds the memory budget; using SQL from now on", current);
+      }
+      long total = 0;
+      for (var index : projects.values()) {
+        total += index.bytes();
+      }
+      var eldest = projects.entrySet().iterator();
+      while (total > budgetBytes && eldest.hasNext()) {
+        var entry = eldest.next();
+        if (!entry.getValue().isReady() || entry.getKey() == current) {
+          continue;
+        }
+        total -= entry.getValue().bytes();
+        eldest.remove();
+        log.info("Evicted issue title index for project {}", entry.getKey());
+      }
+    }
+  }
+
+  static Set<String> tokens(String text) {
+    Set<String> tokens = new LinkedHashSet<>();
+    if (text == null) {
+      return tokens;
+    }
+    for (var token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (token.isEmpty()) {
+        continue;
+      }
+      tokens.add(token);
+      var unpadded = token.replaceFirst("^0+(?=\\d)", "");
+      if (!unpadded.equals(token) && unpadded.chars().allMatch(Character::isDigit)) {
+        tokens.add(unpadded);
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Token to sorted doc ordinals, plus the key and title of each doc so results need no lookup.
+   * Ordinals grow with insertion order, so the highest ordinals are the newest issues.
+   */
+  private static final class ProjectIndex {
+    private static final int DOC_OVERHEAD = 64;
+    private static final int TOKEN_OVERHEAD = 96;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] issueIds = new long[16];
+    private String[] keys = new String[16];
+    private String[] titles = new String[16];
+    private int size;
+    private long bytes;
+    private List<IssueSuggestionDto> pending = new ArrayList<>();
+    private volatile boolean ready;
+
+    boolean isReady() {
+      return ready;
+    }
+
+    long bytes() {
+      lock.readLock().lock();
+      try {
+        return bytes;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    void load(List<IssueSuggestionDto> rows) {
+      lock.writeLock().lock();
+      try {
+        for (var row : rows) {
+          put(row.id(), row.issueKey(), row.title());
+        }
+        for (var row : pending) {
+          put(row.id(), row.issueKey(), row.title());
+        }
+        pending = null;
+        ready = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    void upsert(long issueId, String key, String title) {
+      lock.writeLock().lock();
+      try {
+        if (pending != null) {
+          pending.add(new IssueSuggestionDto(issueId, key, title));
+        } else {
+          put(issueId, key, title);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    List<IssueSuggestionDto> search(Set<String> terms, int limit) {
+      lock.readLock().lock();
+      try {
+        int[] matches = null;
+        for (var term : terms) {
+          var termMatches = prefixMatches(term);
+          matches = matches == null ? termMatches : intersect(matches, termMatches);
+          if (matches.length == 0) {
+            break;
+          }
+        }
+        if (matches == null) {
+          return List.of();
+        }
+        List<IssueSuggestionDto> results = new ArrayList<>(Math.min(limit, matches.length));
+        for (int i = matches.length - 1; i >= 0 && results.size() < limit; i--) {
+          int ordinal = matches[i];
+          results.add(new IssueSuggestionDto(issueIds[ordinal], keys[ordinal], titles[ordinal]));
+        }
+        return results;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private void put(long issueId, String key, String title) {
+      var existing = ordinals.get(issueId);
+      int ordinal;
+      if (existing != null) {
+        ordinal = existing;
+        if (Objects.equals(keys[ordinal], key) && Objects.equals(titles[ordinal], title)) {
+          return;
+        }
+        for (var token : docTokens(keys[ordinal], titles[ordinal])) {
+          removePosting(token, ordinal);
+        }
+        bytes -= chars(keys[ordinal], titles[ordinal]);
+      } else {
+        ordinal = size++;
+        if (ordinal == issueIds.length) {
+          issueIds = Arrays.copyOf(issueIds, ordinal * 2);
+          keys = Arrays.copyOf(keys, ordinal * 2);
+          titles = Arrays.copyOf(titles, ordinal * 2);
+        }
+        ordinals.put(issueId, ordinal);
+        issueIds[ordinal] = issueId;
+        bytes += DOC_OVERHEAD;
+      }
+      keys[ordinal] = key;
+      titles[ordinal] = title;
+      bytes += chars(key, title);
+      for (var token : docTokens(key, title)) {
+        var list = postings.get(token);
+        if (list == null) {
+          list = new Postings();
+          postings.put(token, list);
+          bytes += TOKEN_OVERHEAD + 2L * token.length();
+        }
+        if (list.add(ordinal)) {
+          bytes += Integer.BYTES;
+        }
+      }
+    }
+
+    private void removePosting(String token, int ordinal) {
+      var list = postings.get(token);
+      if (list != null && list.remove(ordinal)) {
+        bytes -= Integer.BYTES;
+        if (list.size == 0) {
+          postings.remove(token);
+          bytes -= TOKEN_OVERHEAD + 2L * token.length();
+        }
+      }
+    }
+
+    private int[] prefixMatches(String prefix) {
+      var range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+      if (range.size() == 1) {
+        var only = range.values().iterator().next();
+        return Arrays.copyOf(only.ordinals, only.size);
+      }
+      int total = 0;
+      for (var list : range.values()) {
+        total += list.size;
+      }
+      int[] merged = new int[total];
+      int offset = 0;
+      for (var list : range.values()) {
+        System.arraycopy(list.ordinals, 0, merged, offset, list.size);
+        offset += list.size;
+      }
+      Arrays.sort(merged);
+      int distinct = 0;
+      for (int i = 0; i < merged.length; i++) {
+        if (i == 0 || merged[i] != merged[i - 1]) {
+          merged[distinct++] = merged[i];
+        }
+      }
+      return Arrays.copyOf(merged, distinct);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+      int[] out = new int[Math.min(left.length, right.length)];
+      int i = 0;
+      int j = 0;
+      int n = 0;
+      while (i < left.length && j < right.length) {
+        if (left[i] < right[j]) {
+          i++;
+        } else if (left[i] > right[j]) {
+          j++;
+        } else {
+          out[n++] = left[i];
+          i++;
+          j++;
+        }
+      }
+      return Arrays.copyOf(out, n);
+    }
+
+    private static Set<String> docTokens(String key, String title) {
+      var tokens = tokens(key);
+      tokens.addAll(tokens(title));
+      return tokens;
+    }
+
+    private static long chars(String key, String title) {
+      return 2L * ((key == null ? 0 : key.length()) + (title == null ? 0 : title.length()));
+    }
+  }
+
+  private static final class Postings {
+    private int[] ordinals = new int[4];
+    private int size;
+
+    boolean add(int ordinal) {
+      int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+      if (at >= 0) {
+        return false;
+      }
+      int insert = -at - 1;
+      if (size == ordinals.length) {
+        ordinals = Arrays.copyOf(ordinals, size * 2);
+      }
+      System.arraycopy(ordinals, insert, ordinals, insert + 1, size - insert);
+      ordinals[insert] = ordinal;
+      size++;
+      return true;
+    }
+
+    boolean remove(int ordinal) {
+      int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+      if (at < 0) {
+        return false;
+      }
+      System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+      size--;
+      return true;
+    }
+  }
+}
+
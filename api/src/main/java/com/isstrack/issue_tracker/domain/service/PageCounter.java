@@ -0,0 +1,106 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds {@link PageResponse}s for a {@link CountMode}. Estimates are exact counts cached per
+ * query key for a short TTL, corrected by what the current slice proves about the total.
+ */
+@Component
+public class PageCounter {
+  private final Clock clock;
+  private final Duration ttl;
+  private final Map<String, Estimate> estimates;
+
+  @Autowired
+  public PageCounter(
+      @Value("${app.pagination.estimate-cache-size:10000}") int capacity,
+      @Value("${app.pagination.estimate-ttl-seconds:60}") long ttlSeconds
+  ) {
+    this(Clock.systemUTC(), capacity, Duration.ofSeconds(ttlSeconds));
+  }
+
+  PageCounter(Clock clock, int capacity, Duration ttl) {
+    this.clock = clock;
+    this.ttl = ttl;
+    this.estimates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Estimate> eldest) {
+        return size() > capacity;
+      }
+    });
+  }
+
+  public <T> PageResponse<T> response(
+      Slice<?> slice,
+      List<T> items,
+      CountMode mode,
+      String key,
+      LongSupplier count
+  ) {
+    long total = switch (mode) {
+      case EXACT -> slice instanceof Page<?> page ? page.getTotalElements() : exact(slice, count);
+      case NONE -> -1;
+      case ESTIMATE -> estimate(slice, key, count);
+    };
+    int totalPages = total < 0 ? -1 : (int) ((total + slice.getSize() - 1) / slice.getSize());
+    return new PageResponse<>(
+        items,
+        slice.getNumber(),
+        slice.getSize(),
+        total,
+        totalPages,
+        slice.hasNext(),
+        null,
+        null
+    );
+  }
+
+  private static long exact(Slice<?> slice, LongSupplier count) {
+    return reachesEnd(slice) ? seen(slice) : count.getAsLong();
+  }
+
+  private long estimate(Slice<?> slice, String key, LongSupplier count) {
+    long seen = seen(slice);
+    if (reachesEnd(slice)) {
+      return seen;
+    }
+    var now = clock.instant();
+    var cached = estimates.get(key);
+    if (cached == null || cached.loadedAt().plus(ttl).isBefore(now)) {
+      cached = new Estimate(count.getAsLong(), now);
+      estimates.put(key, cached);
+    }
+    return slice.hasNext() ? Math.max(cached.total(), seen + 1) : Math.min(cached.total(), seen);
+  }
+
+  private static boolean reachesEnd(Slice<?> slice) {
+    return !slice.hasNext() && (slice.hasContent() || !slice.hasPrevious());
+  }
+
+  private static long seen(Slice<?> slice) {
+    return slice.getPageable().getOffset() + slice.getNumberOfElements();
+  }
+
+  private record Estimate(long total, Instant loadedAt) {
+  }
+}
+
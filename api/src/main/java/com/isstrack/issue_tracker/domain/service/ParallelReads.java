@@ -0,0 +1,176 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs independent read-only queries of one request side by side. Each task runs outside any
+ * transaction, so it borrows its own pooled connection for a single auto-commit statement.
+ * There are at most {@code workers} threads, capped at half the Hikari pool so that request
+ * threads and export streams keep the other half. A task that finds no idle worker runs on the
+ * calling thread instead, so under load a request degrades to sequential reads rather than
+ * queueing for a connection. A request never has more than {@code max-per-request} tasks in
+ * flight. The first failure or the {@code timeout-ms} deadline interrupts whatever is still
+ * running; statements themselves are bounded by a JDBC query timeout set by the caller's
+ * repository, because interrupting a thread does not stop a running pgjdbc statement.
+ */
+@Component
+public class ParallelReads {
+  private final ThreadPoolExecutor executor;
+  private final int maxPerRequest;
+  private final long timeoutMillis;
+
+  public ParallelReads(
+      @Value("${app.parallel-reads.workers:4}") int workers,
+      @Value("${app.parallel-reads.max-per-request:3}") int maxPerRequest,
+      @Value("${app.parallel-reads.timeout-ms:2000}") long timeoutMillis,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+  ) {
+    int count = Math.max(1, Math.min(workers, connectionPoolSize / 2));
+    var threadIds = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        count,
+        count,
+        0,
+        TimeUnit.MILLISECONDS,
+        new SynchronousQueue<>(),
+        task -> {
+          var thread = new Thread(task, "parallel-read-" + threadIds.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    this.maxPerRequest = Math.max(1, maxPerRequest);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public Batch batch() {
+    return new Batch();
+  }
+
+  int workerCount() {
+    return executor.getMaximumPoolSize();
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /** Tasks collected by {@link #fork} start on {@link #join}; results are read afterwards. */
+  public final class Batch {
+    private final List<Fork<?>> forks = new ArrayList<>();
+
+    private Batch() {
+    }
+
+    public <T> Fork<T> fork(Callable<T> task) {
+      var fork = new Fork<>(task);
+      forks.add(fork);
+      return fork;
+    }
+
+    /**
+     * Waits for every task. Rethrows the first failure as thrown by the task (checked exceptions
+     * wrapped in {@link IllegalStateException}) and gives up with {@link QueryTimeoutException}
+     * once the deadline passes, including after a task that ran on the calling thread. Either
+     * way the remaining tasks are cancelled.
+     */
+    public void join() {
+      var completion = new ExecutorCompletionService<Object>(executor);
+      Map<Future<Object>, Fork<?>> running = new HashMap<>();
+      Iterator<Fork<?>> pending = forks.iterator();
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+      try {
+        while (pending.hasNext() || !running.isEmpty()) {
+          while (running.size() < maxPerRequest && pending.hasNext()) {
+            var fork = pending.next();
+            try {
+              running.put(completion.submit(fork::call), fork);
+            } catch (RejectedExecutionException ex) {
+              fork.value = fork.call();
+              if (deadline - System.nanoTime() <= 0) {
+                throw timeout();
+              }
+            }
+          }
+          if (running.isEmpty()) {
+            continue;
+          }
+          var done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (done == null) {
+            throw timeout();
+          }
+          running.remove(done).value = done.get();
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for parallel reads", ex);
+      } catch (ExecutionException ex) {
+        throw rethrow(ex.getCause());
+      } catch (RuntimeException ex) {
+        throw ex;
+      } catch (Exception ex) {
+        throw rethrow(ex);
+      } finally {
+        running.keySet().forEach(future -> future.cancel(true));
+      }
+    }
+
+    private QueryTimeoutException timeout() {
+      return new QueryTimeoutException("Parallel reads did not finish within " + timeoutMillis + " ms");
+    }
+
+    private RuntimeException rethrow(Throwable failure) {
+      if (failure instanceof RuntimeException runtime) {
+        return runtime;
+      }
+      if (failure instanceof Error error) {
+        throw error;
+      }
+      return new IllegalStateException("Parallel read failed", failure);
+    }
+  }
+
+  /** Handle to one task's result, available after {@link Batch#join()} returns. */
+  public static final class Fork<T> {
+    private final Callable<T> task;
+    private Object value;
+
+    private Fork(Callable<T> task) {
+      this.task = task;
+    }
+
+    private Object call() throws Exception {
+      return task.call();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+      return (T) value;
+    }
+  }
+}
+
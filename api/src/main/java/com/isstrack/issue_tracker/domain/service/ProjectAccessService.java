@@ -9,36 +9,109 @@ import com.isstrack.issue_tracker.api.error.ForbiddenException;
 import com.isstrack.issue_tracker.domain.model.MembershipStatus;
 import com.isstrack.issue_tracker.domain.model.ProjectRole;
 import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Membership checks are served from a bounded cache of (userId, projectId) to active role,
+ * including "not a member". Entries live for {@code app.access.cache-ttl-seconds}.
+ * {@link #invalidate} is called wherever a membership is created or activated.
+ */
 @Service
 public class ProjectAccessService {
+  private static final String NOT_A_MEMBER = "";
+
   private final ProjectMembershipRepository membershipRepository;
+  private final Map<MemberKey, CachedRole> cache;
+  private final long ttlNanos;
+  private final Counter hits;
+  private final Counter misses;
+  private final AtomicLong invalidations = new AtomicLong();
 
-  public ProjectAccessService(ProjectMembershipRepository membershipRepository) {
+  public ProjectAccessService(
+      ProjectMembershipRepository membershipRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.access.cache-size:10000}") int cacheSize,
+      @Value("${app.access.cache-ttl-seconds:30}") long ttlSeconds
+  ) {
     this.membershipRepository = membershipRepository;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+    int capacity = Math.max(1, cacheSize);
+    this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<MemberKey, CachedRole> eldest) {
+        return size() > capacity;
+      }
+    });
+    this.hits = Counter.builder("access.membership.cache").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("access.membership.cache").tag("result", "miss").register(meterRegistry);
   }
 
   public void requireActiveMember(long userId, long projectId) {
-    var exists = membershipRepository.existsByProjectIdAndUserIdAndStatus(
-        projectId,
-        userId,
-        MembershipStatus.ACTIVE.name()
-    );
-    if (!exists) {
+    if (NOT_A_MEMBER.equals(activeRole(userId, projectId))) {
       throw new ForbiddenException("Not a project member");
     }
   }
 
   public void requireOwner(long userId, long projectId) {
-    var membership = membershipRepository.findByProjectIdAndUserIdAndStatus(
+    var role = activeRole(userId, projectId);
+    if (NOT_A_MEMBER.equals(role)) {
+      throw new ForbiddenException("Not a project member");
+    }
+    if (!ProjectRole.OWNER.name().equals(role)) {
+      throw new ForbiddenException("Owner role required");
+    }
+  }
+
+  public void invalidate(long userId, long projectId) {
+    var key = new MemberKey(userId, projectId);
+    invalidations.incrementAndGet();
+    cache.remove(key);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidations.incrementAndGet();
+          cache.remove(key);
+        }
+      });
+    }
+  }
+
+  private String activeRole(long userId, long projectId) {
+    var key = new MemberKey(userId, projectId);
+    long now = System.nanoTime();
+    var cached = cache.get(key);
+    if (cached != null && now - cached.loadedAt() < ttlNanos) {
+      hits.increment();
+      return cached.role();
+    }
+    misses.increment();
+    long generation = invalidations.get();
+    var role = membershipRepository.findRoleByProjectIdAndUserIdAndStatus(
         projectId,
         userId,
         MembershipStatus.ACTIVE.name()
-    ).orElseThrow(() -> new ForbiddenException("Not a project member"));
-    if (!ProjectRole.OWNER.name().equals(membership.getRole())) {
-      throw new ForbiddenException("Owner role required");
+    ).orElse(NOT_A_MEMBER);
+    if (invalidations.get() == generation) {
+      cache.put(key, new CachedRole(role, now));
     }
+    return role;
+  }
+
+  private record MemberKey(long userId, long projectId) {
+  }
+
+  private record CachedRole(String role, long loadedAt) {
   }
 }
 
@@ -0,0 +1,83 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.MembershipDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.api.dto.ProjectChangesDto;
+import com.isstrack.issue_tracker.domain.mapper.EntityMapper;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository.ChangeRow;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository.Entity;
+import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync for clients that lost their WebSocket subscription: everything in a project that
+ * changed after a watermark, each entity once in its current state. Without {@code since} only
+ * the current watermark is returned; take it before loading the full list.
+ */
+@Service
+public class ProjectChangeFeedService {
+  private final ProjectChangeRepository changeRepository;
+  private final ProjectMembershipRepository membershipRepository;
+  private final IssueQueryService issueQueryService;
+  private final ProjectAccessService accessService;
+
+  public ProjectChangeFeedService(
+      ProjectChangeRepository changeRepository,
+      ProjectMembershipRepository membershipRepository,
+      IssueQueryService issueQueryService,
+      ProjectAccessService accessService
+  ) {
+    this.changeRepository = changeRepository;
+    this.membershipRepository = membershipRepository;
+    this.issueQueryService = issueQueryService;
+    this.accessService = accessService;
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectChangesDto changes(long userId, long projectId, Long since, int limit) {
+    if (since != null && since < 0) {
+      throw new BadRequestException("since must not be negative");
+    }
+    accessService.requireActiveMember(userId, projectId);
+    if (since == null) {
+      var watermark = changeRepository.watermark(projectId);
+      return new ProjectChangesDto(projectId, watermark, false, List.of(), List.of());
+    }
+    List<ChangeRow> rows = changeRepository.findSince(projectId, since, limit + 1);
+    boolean hasMore = rows.size() > limit;
+    if (hasMore) {
+      rows = rows.subList(0, limit);
+    }
+    List<Long> issueIds = new ArrayList<>();
+    List<Long> membershipIds = new ArrayList<>();
+    for (var row : rows) {
+      (row.entity() == Entity.ISSUE ? issueIds : membershipIds).add(row.entityId());
+    }
+    List<MembershipDto> memberships = membershipIds.isEmpty()
+        ? List.of()
+        : membershipRepository.findAllById(membershipIds).stream()
+            .filter(membership -> membership.getProject().getId().equals(projectId))
+            .map(EntityMapper::toMembershipDto)
+            .sorted(Comparator.comparing(MembershipDto::id))
+            .toList();
+    long watermark = rows.isEmpty() ? since : rows.get(rows.size() - 1).seq();
+    return new ProjectChangesDto(
+        projectId,
+        watermark,
+        hasMore,
+        issueQueryService.issuesByIds(projectId, issueIds),
+        memberships
+    );
+  }
+}
+
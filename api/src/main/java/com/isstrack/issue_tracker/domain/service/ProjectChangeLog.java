@@ -0,0 +1,47 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.domain.event.DomainEvent;
+import com.isstrack.issue_tracker.domain.event.IssueCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssuesBulkCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.MemberAddedEvent;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository.Entity;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes issue and membership changes to the project change log just before commit, so the
+ * project row lock taken for the sequence is held only for the commit itself.
+ */
+@Component
+public class ProjectChangeLog {
+  private final ProjectChangeRepository changeRepository;
+
+  public ProjectChangeLog(ProjectChangeRepository changeRepository) {
+    this.changeRepository = changeRepository;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onEvent(DomainEvent event) {
+    if (event instanceof IssueCreatedEvent ev) {
+      changeRepository.record(ev.projectId(), Entity.ISSUE, List.of(ev.issueId()));
+    } else if (event instanceof IssueUpdatedEvent ev) {
+      changeRepository.record(ev.projectId(), Entity.ISSUE, List.of(ev.issueId()));
+    } else if (event instanceof IssuesBulkCreatedEvent ev) {
+      var issueIds = ev.payload().stream().map(IssueDto::id).distinct().toList();
+      changeRepository.record(ev.projectId(), Entity.ISSUE, issueIds);
+    } else if (event instanceof MemberAddedEvent ev) {
+      changeRepository.record(ev.projectId(), Entity.MEMBERSHIP, List.of(ev.payload().id()));
+    }
+  }
+}
+
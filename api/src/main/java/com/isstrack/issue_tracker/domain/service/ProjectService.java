@@ -37,19 +37,28 @@ public class ProjectService {
   private final UserRepository userRepository;
   private final ProjectAccessService accessService;
   private final ApplicationEventPublisher eventPublisher;
+  private final IssueNumberAllocator issueNumberAllocator;
+  private final ChangeTracker changeTracker;
+  private final PageCounter pageCounter;
 
   public ProjectService(
       ProjectRepository projectRepository,
       ProjectMembershipRepository membershipRepository,
       UserRepository userRepository,
       ProjectAccessService accessService,
-      ApplicationEventPublisher eventPublisher
+      ApplicationEventPublisher eventPublisher,
+      IssueNumberAllocator issueNumberAllocator,
+      ChangeTracker changeTracker,
+      PageCounter pageCounter
   ) {
     this.projectRepository = projectRepository;
     this.membershipRepository = membershipRepository;
     this.userRepository = userRepository;
     this.accessService = accessService;
     this.eventPublisher = eventPublisher;
+    this.issueNumberAllocator = issueNumberAllocator;
+    this.changeTracker = changeTracker;
+    this.pageCounter = pageCounter;
   }
 
   @Transactional
@@ -61,6 +70,7 @@ public class ProjectService {
     project.setPrefix(prefix.trim().toUpperCase());
     project.setOwner(owner);
     var saved = projectRepository.save(project);
+    issueNumberAllocator.createSequence(saved.getId());
 
     var membership = new ProjectMembershipEntity();
     membership.setProject(saved);
@@ -69,20 +79,34 @@ public class ProjectService {
     membership.setStatus(MembershipStatus.ACTIVE.name());
     membership.setInviter(owner);
     var membershipSaved = membershipRepository.save(membership);
+    accessService.invalidate(ownerId, saved.getId());
     var membershipDto = EntityMapper.toMembershipDto(membershipSaved);
     eventPublisher.publishEvent(new MemberAddedEvent(saved.getId(), membershipDto, Instant.now()));
     log.info("Created project {}", saved.getId());
     return EntityMapper.toProjectDto(saved);
   }
 
+  public String listMyProjectsEtag(long userId) {
+    return changeTracker.userTag(userId);
+  }
+
   @Transactional(readOnly = true)
-  public PageResponse<ProjectDto> listMyProjects(long userId, Pageable pageable) {
-    var page = membershipRepository.findByUserIdAndStatus(userId, MembershipStatus.ACTIVE.name(), pageable);
+  public PageResponse<ProjectDto> listMyProjects(long userId, Pageable pageable, CountMode countMode) {
+    var status = MembershipStatus.ACTIVE.name();
+    var page = countMode == CountMode.EXACT
+        ? membershipRepository.findByUserIdAndStatus(userId, status, pageable)
+        : membershipRepository.findSliceByUserIdAndStatus(userId, status, pageable);
     var items = page.stream()
         .map(ProjectMembershipEntity::getProject)
         .map(EntityMapper::toProjectDto)
         .toList();
-    return new PageResponse<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    return pageCounter.response(
+        page,
+        items,
+        countMode,
+        "projects:" + userId,
+        () -> membershipRepository.countByUserIdAndStatus(userId, status)
+    );
   }
 
   @Transactional(readOnly = true)
@@ -94,11 +118,25 @@ public class ProjectService {
   }
 
   @Transactional(readOnly = true)
-  public PageResponse<MembershipDto> listMembers(long userId, long projectId, Pageable pageable) {
+  public PageResponse<MembershipDto> listMembers(
+      long userId,
+      long projectId,
+      Pageable pageable,
+      CountMode countMode
+  ) {
     accessService.requireActiveMember(userId, projectId);
-    var page = membershipRepository.findByProjectIdAndStatus(projectId, MembershipStatus.ACTIVE.name(), pageable);
+    var status = MembershipStatus.ACTIVE.name();
+    var page = countMode == CountMode.EXACT
+        ? membershipRepository.findByProjectIdAndStatus(projectId, status, pageable)
+        : membershipRepository.findSliceByProjectIdAndStatus(projectId, status, pageable);
     var items = page.stream().map(EntityMapper::toMembershipDto).toList();
-    return new PageResponse<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    return pageCounter.response(
+        page,
+        items,
+        countMode,
+        "members:" + projectId,
+        () -> membershipRepository.countByProjectIdAndStatus(projectId, status)
+    );
   }
 
   @Transactional
@@ -140,6 +178,7 @@ public class ProjectService {
       membership.setStatus(MembershipStatus.ACTIVE.name());
       membership.setInviter(inviter);
       var saved = membershipRepository.save(membership);
+      accessService.invalidate(user.getId(), projectId);
       var dto = EntityMapper.toMembershipDto(saved);
       eventPublisher.publishEvent(new MemberAddedEvent(projectId, dto, Instant.now()));
       return dto;
@@ -172,6 +211,7 @@ public class ProjectService {
     membership.setInviteToken(null);
     membership.setInviteExpiresAt(null);
     var saved = membershipRepository.save(membership);
+    accessService.invalidate(userId, saved.getProject().getId());
     var dto = EntityMapper.toMembershipDto(saved);
     eventPublisher.publishEvent(new MemberAddedEvent(saved.getProject().getId(), dto, Instant.now()));
     return dto;
@@ -0,0 +1,138 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.persistence.entity.PriorityEntity;
+import com.isstrack.issue_tracker.persistence.entity.RoleEntity;
+import com.isstrack.issue_tracker.persistence.entity.StatusEntity;
+import com.isstrack.issue_tracker.persistence.repo.PriorityRepository;
+import com.isstrack.issue_tracker.persistence.repo.RoleRepository;
+import com.isstrack.issue_tracker.persistence.repo.StatusRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Immutable id/name maps for the seeded status, priority and role tables, loaded once at
+ * startup. Call {@link #refresh()} after a migration adds rows to pick them up without a restart.
+ */
+@Component
+public class ReferenceDataRegistry {
+  private static final Logger log = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+
+  private final StatusRepository statusRepository;
+  private final PriorityRepository priorityRepository;
+  private final RoleRepository roleRepository;
+  private final EntityManager entityManager;
+  private volatile Snapshot snapshot;
+
+  public ReferenceDataRegistry(
+      StatusRepository statusRepository,
+      PriorityRepository priorityRepository,
+      RoleRepository roleRepository,
+      EntityManager entityManager
+  ) {
+    this.statusRepository = statusRepository;
+    this.priorityRepository = priorityRepository;
+    this.roleRepository = roleRepository;
+    this.entityManager = entityManager;
+  }
+
+  @PostConstruct
+  public void refresh() {
+    var next = new Snapshot(
+        Lookup.of(statusRepository.findAll(), StatusEntity::getStatusId, StatusEntity::getName),
+        Lookup.of(priorityRepository.findAll(), PriorityEntity::getPriorityId, PriorityEntity::getName),
+        Lookup.of(roleRepository.findAll(), RoleEntity::getRoleId, RoleEntity::getName)
+    );
+    snapshot = next;
+    log.info(
+        "Loaded reference data: {} statuses, {} priorities, {} roles",
+        next.statuses().size(),
+        next.priorities().size(),
+        next.roles().size()
+    );
+  }
+
+  public Optional<Short> statusId(String name) {
+    return snapshot.statuses().idOf(name);
+  }
+
+  public String statusName(Short statusId) {
+    return snapshot.statuses().nameOf(statusId);
+  }
+
+  public StatusEntity statusReference(short statusId) {
+    return entityManager.getReference(StatusEntity.class, statusId);
+  }
+
+  public Optional<Short> priorityId(String name) {
+    return snapshot.priorities().idOf(name);
+  }
+
+  public String priorityName(Short priorityId) {
+    return snapshot.priorities().nameOf(priorityId);
+  }
+
+  public PriorityEntity priorityReference(short priorityId) {
+    return entityManager.getReference(PriorityEntity.class, priorityId);
+  }
+
+  public Optional<Short> roleId(String name) {
+    return snapshot.roles().idOf(name);
+  }
+
+  public String roleName(Short roleId) {
+    return snapshot.roles().nameOf(roleId);
+  }
+
+  public RoleEntity roleReference(short roleId) {
+    return entityManager.getReference(RoleEntity.class, roleId);
+  }
+
+  private record Snapshot(Lookup statuses, Lookup priorities, Lookup roles) {
+  }
+
+  private record Lookup(Map<String, Short> idsByName, Map<Short, String> namesById) {
+    static <T> Lookup of(List<T> rows, Function<T, Short> id, Function<T, String> name) {
+      Map<String, Short> idsByName = new HashMap<>();
+      Map<Short, String> namesById = new HashMap<>();
+      for (T row : rows) {
+        idsByName.put(normalize(name.apply(row)), id.apply(row));
+        namesById.put(id.apply(row), name.apply(row));
+      }
+      return new Lookup(Map.copyOf(idsByName), Map.copyOf(namesById));
+    }
+
+    Optional<Short> idOf(String name) {
+      if (name == null) {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(idsByName.get(normalize(name)));
+    }
+
+    String nameOf(Short id) {
+      return id == null ? null : namesById.get(id);
+    }
+
+    int size() {
+      return namesById.size();
+    }
+
+    private static String normalize(String name) {
+      return name.trim().toUpperCase(Locale.ROOT);
+    }
+  }
+}
+
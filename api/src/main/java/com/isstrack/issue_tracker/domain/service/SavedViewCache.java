@@ -0,0 +1,83 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.domain.event.DomainEvent;
+import com.isstrack.issue_tracker.domain.event.IssueCreatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.IssuesBulkCreatedEvent;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * First pages of saved views, keyed by view, page size and count mode. Every entry remembers
+ * the {@link ChangeTracker} project tag read before its query ran; callers only serve it while
+ * that tag is current. Issue events drop the project's entries after commit so stale pages do
+ * not hold memory until they age out.
+ */
+@Component
+public class SavedViewCache {
+  private final Map<PageKey, CachedPage> pages;
+
+  public SavedViewCache(@Value("${app.views.cache-size:1000}") int capacity) {
+    this.pages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+        return size() > capacity;
+      }
+    });
+  }
+
+  public Optional<CachedPage> get(PageKey key) {
+    return Optional.ofNullable(pages.get(key));
+  }
+
+  public void put(PageKey key, CachedPage page) {
+    pages.put(key, page);
+  }
+
+  public void evictView(long viewId) {
+    synchronized (pages) {
+      pages.keySet().removeIf(key -> key.viewId() == viewId);
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onEvent(DomainEvent event) {
+    if (event instanceof IssueCreatedEvent ev) {
+      evictProject(ev.projectId());
+    } else if (event instanceof IssueUpdatedEvent ev) {
+      evictProject(ev.projectId());
+    } else if (event instanceof IssuesBulkCreatedEvent ev) {
+      evictProject(ev.projectId());
+    }
+  }
+
+  private void evictProject(long projectId) {
+    synchronized (pages) {
+      pages.values().removeIf(page -> page.projectId() == projectId);
+    }
+  }
+
+  int size() {
+    return pages.size();
+  }
+
+  public record PageKey(long viewId, int size, CountMode countMode) {
+  }
+
+  public record CachedPage(long userId, long projectId, String version, PageResponse<IssueDto> page) {
+  }
+}
+
@@ -0,0 +1,172 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isstrack.issue_tracker.api.dto.CreateSavedViewRequest;
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.SavedViewDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.api.error.NotFoundException;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.domain.service.SavedViewCache.CachedPage;
+import com.isstrack.issue_tracker.domain.service.SavedViewCache.PageKey;
+import com.isstrack.issue_tracker.persistence.entity.SavedViewEntity;
+import com.isstrack.issue_tracker.persistence.repo.SavedViewRepository;
+import com.isstrack.issue_tracker.util.SortValidator;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SavedViewService {
+  private static final Set<String> SORT_FIELDS = Set.of("updatedAt", "createdAt", "title");
+  private static final Sort DEFAULT_SORT = Sort.by("updatedAt").descending();
+
+  private final SavedViewRepository viewRepository;
+  private final ProjectAccessService accessService;
+  private final IssueQueryService issueQueryService;
+  private final ChangeTracker changeTracker;
+  private final SavedViewCache cache;
+  private final ObjectMapper objectMapper;
+
+  public SavedViewService(
+      SavedViewRepository viewRepository,
+      ProjectAccessService accessService,
+      IssueQueryService issueQueryService,
+      ChangeTracker changeTracker,
+      SavedViewCache cache,
+      ObjectMapper objectMapper
+  ) {
+    this.viewRepository = viewRepository;
+    this.accessService = accessService;
+    this.issueQueryService = issueQueryService;
+    this.changeTracker = changeTracker;
+    this.cache = cache;
+    this.objectMapper = objectMapper;
+  }
+
+  @Transactional
+  public SavedViewDto createView(long userId, long projectId, CreateSavedViewRequest request) {
+    accessService.requireActiveMember(userId, projectId);
+    var name = request.name().trim();
+    if (viewRepository.existsByProjectIdAndUserIdAndName(projectId, userId, name)) {
+      throw new BadRequestException("A view with this name already exists");
+    }
+    var filter = request.filter() == null ? emptyFilter() : request.filter();
+    var view = new SavedViewEntity();
+    view.setProjectId(projectId);
+    view.setUserId(userId);
+    view.setName(name);
+    view.setFilter(write(filter));
+    view.setSort(request.sort() == null || request.sort().isBlank() ? null : request.sort().trim());
+    view.setCreatedAt(Instant.now());
+    return toDto(viewRepository.save(view), filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<SavedViewDto> listViews(long userId, long projectId) {
+    accessService.requireActiveMember(userId, projectId);
+    return viewRepository.findByProjectIdAndUserIdOrderByNameAsc(projectId, userId).stream()
+        .map(view -> toDto(view, read(view.getFilter())))
+        .toList();
+  }
+
+  @Transactional
+  public void deleteView(long userId, long viewId) {
+    var view = findOwnView(userId, viewId);
+    viewRepository.delete(view);
+    cache.evictView(viewId);
+  }
+
+  /**
+   * Runs a saved view like the issue list. The first page is served from {@link SavedViewCache}
+   * while the project has not changed, which skips the view lookup and the issue query.
+   */
+  public PageResponse<IssueDto> openView(long userId, long viewId, int page, int size, CountMode countMode) {
+    var key = new PageKey(viewId, PaginationHelper.page(page, size).getPageSize(), countMode);
+    if (page == 0) {
+      var hit = cachedPage(userId, key);
+      if (hit != null) {
+        return hit;
+      }
+    }
+    var view = findOwnView(userId, viewId);
+    long projectId = view.getProjectId();
+    accessService.requireActiveMember(userId, projectId);
+    var version = changeTracker.projectTag(projectId);
+    var sort = SortValidator.validateOrDefault(view.getSort(), SORT_FIELDS, DEFAULT_SORT);
+    var result = issueQueryService.listIssues(
+        userId,
+        projectId,
+        read(view.getFilter()),
+        PaginationHelper.page(page, size, sort),
+        countMode
+    );
+    if (page == 0) {
+      cache.put(key, new CachedPage(userId, projectId, version, result));
+    }
+    return result;
+  }
+
+  private PageResponse<IssueDto> cachedPage(long userId, PageKey key) {
+    var cached = cache.get(key).orElse(null);
+    if (cached == null || cached.userId() != userId) {
+      return null;
+    }
+    accessService.requireActiveMember(userId, cached.projectId());
+    if (!cached.version().equals(changeTracker.projectTag(cached.projectId()))) {
+      return null;
+    }
+    return cached.page();
+  }
+
+  private SavedViewEntity findOwnView(long userId, long viewId) {
+    var view = viewRepository.findById(viewId)
+        .orElseThrow(() -> new NotFoundException("View not found"));
+    if (view.getUserId() != userId) {
+      throw new NotFoundException("View not found");
+    }
+    return view;
+  }
+
+  private SavedViewDto toDto(SavedViewEntity view, IssueFilter filter) {
+    return new SavedViewDto(
+        view.getId(),
+        view.getProjectId(),
+        view.getName(),
+        filter,
+        view.getSort(),
+        view.getCreatedAt()
+    );
+  }
+
+  private String write(IssueFilter filter) {
+    try {
+      return objectMapper.writeValueAsString(filter);
+    } catch (JsonProcessingException ex) {
+      throw new BadRequestException("Invalid view filter");
+    }
+  }
+
+  private IssueFilter read(String filter) {
+    try {
+      return objectMapper.readValue(filter, IssueFilter.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Stored view filter is unreadable", ex);
+    }
+  }
+
+  private static IssueFilter emptyFilter() {
+    return new IssueFilter(null, null, null, false, null, null, null, null, null, null, null, null, null);
+  }
+}
+
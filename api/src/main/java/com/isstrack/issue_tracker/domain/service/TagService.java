@@ -7,49 +7,181 @@ package com.isstrack.issue_tracker.domain.service;
 
 import com.isstrack.issue_tracker.api.error.BadRequestException;
 import com.isstrack.issue_tracker.persistence.entity.TagEntity;
-import com.isstrack.issue_tracker.persistence.repo.TagRepository;
+import com.isstrack.issue_tracker.persistence.repo.TagBatchRepository;
+import com.isstrack.issue_tracker.persistence.repo.TagBatchRepository.TagRow;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Resolves tag names to ids through a bounded LRU dictionary. Misses are created with one
+ * INSERT ... ON CONFLICT DO NOTHING and the conflicting names read back with one SELECT.
+ * The dictionary keeps a single String instance per tag name, and DTOs reuse that instance.
+ */
 @Service
 public class TagService {
-  private final TagRepository tagRepository;
+  private final TagBatchRepository tagBatchRepository;
+  private final Map<String, TagRow> dictionary;
 
-  public TagService(TagRepository tagRepository) {
-    this.tagRepository = tagRepository;
+  public TagService(
+      TagBatchRepository tagBatchRepository,
+      @Value("${app.tags.dictionary-size:10000}") int dictionarySize
+  ) {
+    this.tagBatchRepository = tagBatchRepository;
+    int capacity = Math.max(1, dictionarySize);
+    this.dictionary = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, TagRow> eldest) {
+        return size() > capacity;
+      }
+    });
   }
 
   @Transactional
   public List<TagEntity> normalizeAndSave(List<String> tags) {
+    return new ArrayList<>(resolve(normalize(tags)).values());
+  }
+
+  public Set<String> normalize(List<String> tags) {
     if (tags == null || tags.isEmpty()) {
-      return List.of();
+      return Set.of();
     }
     Set<String> normalized = new HashSet<>();
     for (String raw : tags) {
       if (raw == null) {
         continue;
       }
-      var value = raw.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
-      if (value.isBlank()) {
+      var value = collapseWhitespace(raw);
+      if (value.isEmpty()) {
         throw new BadRequestException("Tag name cannot be blank");
       }
       normalized.add(value);
     }
-    List<TagEntity> results = new ArrayList<>();
-    for (String name : normalized) {
-      var tag = tagRepository.findByNameIgnoreCase(name).orElseGet(() -> {
-        var newTag = new TagEntity();
-        newTag.setName(name);
-        return tagRepository.save(newTag);
-      });
-      results.add(tag);
+    return normalized;
+  }
+
+  @Transactional
+  public Map<String, TagEntity> resolve(Collection<String> normalizedNames) {
+    Map<String, TagEntity> results = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String name : normalizedNames) {
+      var cached = dictionary.get(name);
+      if (cached == null) {
+        missing.add(name);
+      } else {
+        results.put(cached.name(), toEntity(cached));
+      }
+    }
+    if (missing.isEmpty()) {
+      return results;
+    }
+
+    Collections.sort(missing);
+    var created = tagBatchRepository.insertMissing(missing);
+    for (var row : created) {
+      results.put(row.name(), toEntity(row));
+    }
+    rememberAfterCommit(created);
+    if (created.size() < missing.size()) {
+      List<String> existing = new ArrayList<>(missing.size() - created.size());
+      for (String name : missing) {
+        if (!results.containsKey(name)) {
+          existing.add(name);
+        }
+      }
+      for (var row : tagBatchRepository.findByNames(existing)) {
+        dictionary.put(row.name(), row);
+        results.put(row.name(), toEntity(row));
+      }
     }
     return results;
   }
+
+  /**
+   * Ids of the existing tags among {@code names}, keyed by normalized name. Unlike
+   * {@link #resolve} it never creates tags.
+   */
+  public Map<String, Long> lookupIds(Collection<String> names) {
+    Map<String, Long> ids = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String name : names) {
+      var normalized = collapseWhitespace(name);
+      var cached = dictionary.get(normalized);
+      if (cached != null) {
+        ids.put(normalized, cached.id());
+      } else if (!normalized.isEmpty() && !missing.contains(normalized)) {
+        missing.add(normalized);
+      }
+    }
+    if (!missing.isEmpty()) {
+      for (var row : tagBatchRepository.findByNames(missing)) {
+        dictionary.put(row.name(), row);
+        ids.put(row.name(), row.id());
+      }
+    }
+    return ids;
+  }
+
+  public String canonicalName(long tagId, String name) {
+    var cached = dictionary.get(name);
+    if (cached != null) {
+      return cached.name();
+    }
+    dictionary.put(name, new TagRow(tagId, name));
+    return name;
+  }
+
+  private void rememberAfterCommit(List<TagRow> created) {
+    if (created.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      created.forEach(row -> dictionary.put(row.name(), row));
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        created.forEach(row -> dictionary.put(row.name(), row));
+      }
+    });
+  }
+
+  private static TagEntity toEntity(TagRow row) {
+    var tag = new TagEntity();
+    tag.setId(row.id());
+    tag.setName(row.name());
+    return tag;
+  }
+
+  private static String collapseWhitespace(String raw) {
+    var builder = new StringBuilder(raw.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < raw.length(); i++) {
+      char c = raw.charAt(i);
+      if (Character.isWhitespace(c)) {
+        pendingSpace = builder.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        builder.append(' ');
+        pendingSpace = false;
+      }
+      builder.append(c);
+    }
+    return builder.toString().toLowerCase(Locale.ROOT);
+  }
 }
 
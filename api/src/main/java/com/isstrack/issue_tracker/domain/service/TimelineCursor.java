@@ -0,0 +1,37 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in an issue timeline: the {@code seq} of one entry. Encoded as opaque base64url
+ * text like {@link IssueCursor}.
+ */
+record TimelineCursor(long seq) {
+  private static final String SEPARATOR = ":";
+
+  static TimelineCursor decode(String cursor) {
+    try {
+      var text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = text.split(SEPARATOR, 2);
+      if (parts.length != 2 || !"s".equals(parts[0])) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return new TimelineCursor(Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  String encode() {
+    var text = String.join(SEPARATOR, "s", Long.toString(seq));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
+
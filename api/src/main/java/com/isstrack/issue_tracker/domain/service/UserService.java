@@ -6,10 +6,10 @@
 package com.isstrack.issue_tracker.domain.service;
 
 import com.isstrack.issue_tracker.api.dto.RegisterRequest;
+import com.isstrack.issue_tracker.api.dto.UpdateProfileRequest;
 import com.isstrack.issue_tracker.api.error.BadRequestException;
 import com.isstrack.issue_tracker.api.error.NotFoundException;
 import com.isstrack.issue_tracker.persistence.entity.UserEntity;
-import com.isstrack.issue_tracker.persistence.repo.RoleRepository;
 import com.isstrack.issue_tracker.persistence.repo.UserRepository;
 import java.util.Locale;
 import org.slf4j.Logger;
@@ -22,13 +22,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
   private static final Logger log = LoggerFactory.getLogger(UserService.class);
   private final UserRepository userRepository;
-  private final RoleRepository roleRepository;
+  private final ReferenceDataRegistry referenceData;
   private final PasswordEncoder passwordEncoder;
+  private final UserSummaryService userSummaryService;
 
-  public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+  public UserService(
+      UserRepository userRepository,
+      ReferenceDataRegistry referenceData,
+      PasswordEncoder passwordEncoder,
+      UserSummaryService userSummaryService
+  ) {
     this.userRepository = userRepository;
-    this.roleRepository = roleRepository;
+    this.referenceData = referenceData;
     this.passwordEncoder = passwordEncoder;
+    this.userSummaryService = userSummaryService;
   }
 
   @Transactional
@@ -41,7 +48,8 @@ public class UserService {
     if (userRepository.findByUsernameIgnoreCase(username).isPresent()) {
       throw new BadRequestException("Username already in use");
     }
-    var role = roleRepository.findById((short) 2)
+    var role = referenceData.roleId("USER")
+        .map(referenceData::roleReference)
         .orElseThrow(() -> new NotFoundException("Role not found"));
     var user = new UserEntity();
     user.setEmail(email);
@@ -56,6 +64,15 @@ public class UserService {
     return saved;
   }
 
+  @Transactional
+  public UserEntity updateProfile(long userId, UpdateProfileRequest request) {
+    var user = findById(userId);
+    user.setFirstName(request.firstName());
+    user.setLastName(request.lastName());
+    userSummaryService.invalidate(userId);
+    return user;
+  }
+
   public UserEntity findById(long userId) {
     return userRepository.findById(userId)
         .orElseThrow(() -> new NotFoundException("User not found"));
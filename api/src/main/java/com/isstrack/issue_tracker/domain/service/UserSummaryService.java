@@ -0,0 +1,174 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import com.isstrack.issue_tracker.api.dto.ActivityDto;
+import com.isstrack.issue_tracker.api.dto.CommentDto;
+import com.isstrack.issue_tracker.api.dto.IssueDetailDto;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.UserSummaryDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.domain.model.MembershipStatus;
+import com.isstrack.issue_tracker.persistence.repo.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Id to name lookups for rendering authors, actors, owners and assignees. Summaries are served
+ * from a bounded cache; whatever is missing is loaded with one {@code IN} query per call.
+ * {@link #invalidate} is called by {@link UserService} whenever a profile changes.
+ */
+@Service
+public class UserSummaryService {
+  public static final int MAX_IDS = 200;
+
+  private final UserRepository userRepository;
+  private final Map<Long, UserSummaryDto> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public UserSummaryService(
+      UserRepository userRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.users.summary-cache-size:10000}") int cacheSize
+  ) {
+    this.userRepository = userRepository;
+    int capacity = Math.max(1, cacheSize);
+    this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, UserSummaryDto> eldest) {
+        return size() > capacity;
+      }
+    });
+    this.hits = Counter.builder("users.summary.cache").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("users.summary.cache").tag("result", "miss").register(meterRegistry);
+  }
+
+  public static boolean includesUsers(String include) {
+    return include != null && Stream.of(include.split(",")).anyMatch(part -> part.trim().equalsIgnoreCase("users"));
+  }
+
+  /**
+   * Summaries for up to {@link #MAX_IDS} ids, in request order. Only the caller and users who
+   * share an active project with them are returned; unknown and unrelated ids are left out.
+   */
+  public List<UserSummaryDto> lookup(long callerId, Collection<Long> userIds) {
+    var ids = new LinkedHashSet<>(userIds);
+    ids.remove(null);
+    if (ids.size() > MAX_IDS) {
+      throw new BadRequestException("At most " + MAX_IDS + " user ids per request");
+    }
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Set<Long> visible = new HashSet<>(
+        userRepository.findIdsSharingProjectWith(callerId, MembershipStatus.ACTIVE.name(), ids)
+    );
+    visible.add(callerId);
+    ids.retainAll(visible);
+    return List.copyOf(summaries(ids).values());
+  }
+
+  /** Keyed by id in encounter order; nulls and duplicates in {@code userIds} are ignored. */
+  public Map<Long, UserSummaryDto> summaries(Collection<Long> userIds) {
+    Set<Long> ids = new LinkedHashSet<>(userIds);
+    ids.remove(null);
+    Map<Long, UserSummaryDto> found = new LinkedHashMap<>();
+    List<Long> missing = new ArrayList<>();
+    for (Long id : ids) {
+      var cached = cache.get(id);
+      if (cached != null) {
+        found.put(id, cached);
+      } else {
+        missing.add(id);
+      }
+    }
+    hits.increment(found.size());
+    if (!missing.isEmpty()) {
+      misses.increment(missing.size());
+      long generation = invalidations.get();
+      Map<Long, UserSummaryDto> loaded = new LinkedHashMap<>();
+      for (var row : userRepository.findSummariesByIdIn(missing)) {
+        loaded.put(row.getId(), new UserSummaryDto(
+            row.getId(),
+            row.getUsername(),
+            row.getFirstName(),
+            row.getLastName(),
+            Boolean.TRUE.equals(row.getActive())
+        ));
+      }
+      if (invalidations.get() == generation) {
+        cache.putAll(loaded);
+      }
+      found.putAll(loaded);
+    }
+    Map<Long, UserSummaryDto> ordered = new LinkedHashMap<>();
+    for (Long id : ids) {
+      var summary = found.get(id);
+      if (summary != null) {
+        ordered.put(id, summary);
+      }
+    }
+    return ordered;
+  }
+
+  public <T> PageResponse<T> withUsers(PageResponse<T> page, Function<T, Stream<Long>> userIds) {
+    return page.withUsers(summaries(page.items().stream().flatMap(userIds).filter(Objects::nonNull).toList()));
+  }
+
+  public IssueDetailDto withUsers(IssueDetailDto detail) {
+    var ids = Stream.of(
+            Stream.of(detail.issue().ownerUserId(), detail.issue().assigneeUserId()),
+            detail.comments().items().stream().map(CommentDto::authorUserId),
+            detail.activity().items().stream().map(ActivityDto::actorUserId)
+        )
+        .flatMap(Function.identity())
+        .filter(Objects::nonNull)
+        .toList();
+    return detail.withUsers(summaries(ids));
+  }
+
+  /**
+   * Folds the summary cache generation into a response ETag, so a page that embeds user
+   * summaries is not reported unchanged after someone renames themselves.
+   */
+  public String usersTag(String etag) {
+    return etag.substring(0, etag.length() - 1) + "-u" + invalidations.get() + "\"";
+  }
+
+  public void invalidate(long userId) {
+    invalidations.incrementAndGet();
+    cache.remove(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidations.incrementAndGet();
+          cache.remove(userId);
+        }
+      });
+    }
+  }
+}
+
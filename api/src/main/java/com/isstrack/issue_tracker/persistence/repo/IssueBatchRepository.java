@@ -0,0 +1,147 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class IssueBatchRepository {
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String RESERVE_ISSUE_IDS_SQL =
+      "SELECT nextval('issues_id_seq') FROM generate_series(1, ?)";
+
+  private static final String INSERT_ISSUE_SQL = """
+      INSERT INTO issues (
+        id, project_id, issue_number, title, description, status_id, priority_id,
+        owner_user_id, assignee_user_id, created_at, updated_at, version
+      ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+      """;
+
+  private static final String INSERT_ISSUE_TAG_SQL =
+      "INSERT INTO issue_tags (issue_id, tag_id) VALUES (?, ?)";
+
+  private static final String INSERT_ACTIVITY_SQL =
+      "INSERT INTO issue_activity (issue_id, actor_user_id, message, created_at) VALUES (?, ?, ?, ?)";
+
+  private static final String INSERT_ACTIVITY_PREFIX =
+      "INSERT INTO issue_activity (issue_id, actor_user_id, message, created_at) VALUES ";
+
+  private static final String INSERT_ACTIVITY_RETURNING =
+      " RETURNING id, issue_id, actor_user_id, message, created_at";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueBatchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<Long> reserveIssueIds(int count) {
+    return jdbcTemplate.queryForList(RESERVE_ISSUE_IDS_SQL, Long.class, count);
+  }
+
+  public void insertIssues(List<IssueRow> rows) {
+    jdbcTemplate.batchUpdate(INSERT_ISSUE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+      var timestamp = toOffsetDateTime(row.createdAt());
+      ps.setLong(1, row.id());
+      ps.setLong(2, row.projectId());
+      ps.setInt(3, row.issueNumber());
+      ps.setString(4, row.title());
+      ps.setString(5, row.description());
+      ps.setShort(6, row.statusId());
+      ps.setShort(7, row.priorityId());
+      ps.setLong(8, row.ownerUserId());
+      if (row.assigneeUserId() == null) {
+        ps.setNull(9, Types.BIGINT);
+      } else {
+        ps.setLong(9, row.assigneeUserId());
+      }
+      ps.setObject(10, timestamp);
+      ps.setObject(11, timestamp);
+    });
+  }
+
+  public void insertIssueTags(List<IssueTagRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_ISSUE_TAG_SQL, rows, BATCH_SIZE, (ps, row) -> {
+      ps.setLong(1, row.issueId());
+      ps.setLong(2, row.tagId());
+    });
+  }
+
+  public void insertActivity(List<ActivityRow> rows) {
+    jdbcTemplate.batchUpdate(INSERT_ACTIVITY_SQL, rows, BATCH_SIZE, (ps, row) -> {
+      ps.setLong(1, row.issueId());
+      ps.setLong(2, row.actorUserId());
+      ps.setString(3, row.message());
+      ps.setObject(4, toOffsetDateTime(row.createdAt()));
+    });
+  }
+
+  public List<SavedActivityRow> insertActivityReturning(List<ActivityRow> rows) {
+    List<SavedActivityRow> saved = new ArrayList<>(rows.size());
+    for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+      var chunk = rows.subList(start, Math.min(rows.size(), start + BATCH_SIZE));
+      var sql = INSERT_ACTIVITY_PREFIX
+          + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?)"))
+          + INSERT_ACTIVITY_RETURNING;
+      Object[] args = new Object[chunk.size() * 4];
+      int index = 0;
+      for (var row : chunk) {
+        args[index++] = row.issueId();
+        args[index++] = row.actorUserId();
+        args[index++] = row.message();
+        args[index++] = toOffsetDateTime(row.createdAt());
+      }
+      saved.addAll(jdbcTemplate.query(sql, (rs, rowNum) -> new SavedActivityRow(
+          rs.getLong(1),
+          rs.getLong(2),
+          rs.getLong(3),
+          rs.getString(4),
+          rs.getObject(5, OffsetDateTime.class).toInstant()
+      ), args));
+    }
+    return saved;
+  }
+
+  private static OffsetDateTime toOffsetDateTime(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  public record IssueRow(
+      long id,
+      long projectId,
+      int issueNumber,
+      String title,
+      String description,
+      short statusId,
+      short priorityId,
+      long ownerUserId,
+      Long assigneeUserId,
+      Instant createdAt
+  ) {
+  }
+
+  public record IssueTagRow(long issueId, long tagId) {
+  }
+
+  public record ActivityRow(long issueId, long actorUserId, String message, Instant createdAt) {
+  }
+
+  public record SavedActivityRow(long id, long issueId, long actorUserId, String message, Instant createdAt) {
+  }
+}
+
@@ -0,0 +1,157 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Kanban board in one statement: a LATERAL join pulls the top rows of every status column in
+ * {@code (updated_at, id)} descending order, with each issue's tags folded into arrays.
+ * Column totals come from the project_issue_stats rollup when only statuses are filtered,
+ * and from a per-column count otherwise.
+ */
+@Repository
+public class IssueBoardRepository {
+  private static final String ALL_COLUMNS_SQL =
+      "SELECT status_id, 'infinity'::timestamptz, 9223372036854775807::bigint FROM status WHERE true";
+
+  private static final String ROLLUP_TOTAL_SQL = """
+      LEFT JOIN project_issue_stats total
+        ON total.project_id = p.id AND total.facet = 'STATUS' AND total.value_id = cols.status_id
+      """;
+
+  private static final String COUNT_TOTAL_SQL = """
+      CROSS JOIN LATERAL (
+        SELECT count(*) AS issue_count
+          FROM issues i
+         WHERE i.project_id = p.id AND i.status_id = cols.status_id%s
+      ) total
+      """;
+
+  private static final String BOARD_SQL = """
+      SELECT cols.status_id, COALESCE(total.issue_count, 0), p.prefix,
+             top.id, top.issue_number, top.title, top.priority_id, top.owner_user_id,
+             top.assignee_user_id, top.created_at, top.updated_at, top.tag_ids, top.tag_names
+        FROM (%s) cols (status_id, after_updated_at, after_id)
+        JOIN projects p ON p.id = ?
+        %s
+        LEFT JOIN LATERAL (
+          SELECT i.id, i.issue_number, i.title, i.priority_id, i.owner_user_id, i.assignee_user_id,
+                 i.created_at, i.updated_at,
+                 ARRAY(SELECT it.tag_id FROM issue_tags it
+                        WHERE it.issue_id = i.id ORDER BY it.tag_id) AS tag_ids,
+                 ARRAY(SELECT t.name FROM issue_tags it JOIN tags t ON t.id = it.tag_id
+                        WHERE it.issue_id = i.id ORDER BY it.tag_id) AS tag_names
+            FROM issues i
+           WHERE i.project_id = p.id AND i.status_id = cols.status_id
+             AND i.updated_at <= cols.after_updated_at
+             AND (i.updated_at, i.id) < (cols.after_updated_at, cols.after_id)%s
+           ORDER BY i.updated_at DESC, i.id DESC
+           LIMIT ?
+        ) top ON true
+       ORDER BY cols.status_id, top.updated_at DESC, top.id DESC
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueBoardRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Up to {@code limit} issues per column. Columns are the requested statuses (all when none),
+   * or exactly the columns in {@code starts} when continuing after per-column cursors.
+   */
+  public List<BoardRow> findBoard(BoardQuery query) {
+    List<Object> args = new ArrayList<>();
+    var columns = new StringBuilder();
+    if (query.starts().isEmpty()) {
+      columns.append(ALL_COLUMNS_SQL);
+      IssueFilterSql.appendIn(columns, "status_id", query.statusIds(), args);
+    } else {
+      columns.append("VALUES ");
+      for (int i = 0; i < query.starts().size(); i++) {
+        var start = query.starts().get(i);
+        columns.append(i == 0 ? "" : ", ").append("(?::smallint, ?::timestamptz, ?::bigint)");
+        args.add(start.statusId());
+        args.add(IssueFilterSql.timestamp(start.updatedAt()));
+        args.add(start.issueId());
+      }
+    }
+    args.add(query.projectId());
+
+    var filters = new StringBuilder();
+    List<Object> filterArgs = new ArrayList<>();
+    IssueFilterSql.append(filters, query.filter(), query.priorityIds(), query.tagIds(), filterArgs);
+    String totals = ROLLUP_TOTAL_SQL;
+    if (filters.length() > 0) {
+      totals = COUNT_TOTAL_SQL.formatted(filters);
+      args.addAll(filterArgs);
+    }
+    args.addAll(filterArgs);
+    args.add(query.limit());
+
+    var sql = BOARD_SQL.formatted(columns, totals, filters);
+    return jdbcTemplate.query(sql, (rs, rowNum) -> {
+      short statusId = rs.getShort(1);
+      long total = rs.getLong(2);
+      long issueId = rs.getLong(4);
+      if (rs.wasNull()) {
+        return new BoardRow(statusId, total, null, List.of(), List.of());
+      }
+      long assigneeUserId = rs.getLong(9);
+      Long assignee = rs.wasNull() ? null : assigneeUserId;
+      var issue = new IssueListRow(
+          issueId,
+          query.projectId(),
+          rs.getString(3),
+          rs.getInt(5),
+          rs.getString(6),
+          statusId,
+          rs.getShort(7),
+          rs.getLong(8),
+          assignee,
+          rs.getObject(10, OffsetDateTime.class).toInstant(),
+          rs.getObject(11, OffsetDateTime.class).toInstant()
+      );
+      return new BoardRow(statusId, total, issue, list(rs.getArray(12), Long.class), list(rs.getArray(13), String.class));
+    }, args.toArray());
+  }
+
+  private static <T> List<T> list(Array array, Class<T> type) throws SQLException {
+    return Arrays.stream((Object[]) array.getArray()).map(type::cast).toList();
+  }
+
+  public record BoardQuery(
+      long projectId,
+      IssueFilter filter,
+      List<Short> statusIds,
+      List<Short> priorityIds,
+      List<Long> tagIds,
+      List<ColumnStart> starts,
+      int limit
+  ) {
+  }
+
+  /** Continue a column after the issue at {@code (updatedAt, issueId)}. */
+  public record ColumnStart(short statusId, Instant updatedAt, long issueId) {
+  }
+
+  /** One issue of a column, or a column with no issues when {@code issue} is null. */
+  public record BoardRow(short statusId, long total, IssueListRow issue, List<Long> tagIds, List<String> tagNames) {
+  }
+}
+
@@ -8,9 +8,14 @@ package com.isstrack.issue_tracker.persistence.repo;
 import com.isstrack.issue_tracker.persistence.entity.IssueCommentEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface IssueCommentRepository extends JpaRepository<IssueCommentEntity, Long> {
   Page<IssueCommentEntity> findByIssueIdOrderByCreatedAtDesc(Long issueId, Pageable pageable);
+
+  Slice<IssueCommentEntity> findSliceByIssueIdOrderByCreatedAtDesc(Long issueId, Pageable pageable);
+
+  long countByIssueId(Long issueId);
 }
 
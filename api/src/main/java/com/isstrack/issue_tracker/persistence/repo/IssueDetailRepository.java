@@ -0,0 +1,228 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Issue detail in one statement: the issue row, the caller's membership, its tags, and the
+ * requested comment and activity pages with their totals. Every sub-select is gated on the
+ * membership flag, so a non-member costs one index probe and gets nothing but the flag back.
+ * The same parts are also available as separate statements for callers that run them in parallel;
+ * those carry a JDBC query timeout of {@code app.parallel-reads.timeout-ms}, rounded up to whole
+ * seconds, so an abandoned part is cancelled on the server and gives its connection back.
+ */
+@Repository
+public class IssueDetailRepository {
+  private static final String HEAD_COLUMNS = """
+      i.id, i.project_id, p.prefix, i.issue_number, i.title, i.description, i.status_id,
+      i.priority_id, i.owner_user_id, i.assignee_user_id, i.created_at, i.updated_at,
+      EXISTS (
+        SELECT 1 FROM project_memberships pm
+         WHERE pm.project_id = i.project_id AND pm.user_id = ? AND pm.status = 'ACTIVE'
+      )
+      """;
+
+  private static final String COUNT_SQL = "(SELECT count(*) FROM %1$s WHERE %4$s issue_id = %5$s)";
+
+  private static final String PAGE_SQL = """
+      (SELECT COALESCE(json_agg(json_build_object(
+                'id', e.id, 'userId', e.user_id, 'text', e.text,
+                'createdAt', to_char(e.created_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"')
+              ) ORDER BY e.created_at DESC, e.id DESC), '[]')
+         FROM (SELECT id, %2$s AS user_id, %3$s AS text, created_at
+                 FROM %1$s
+                WHERE %4$s issue_id = %5$s
+                ORDER BY created_at DESC, id DESC
+                LIMIT ? OFFSET ?) e)
+      """;
+
+  private static final String DETAIL_SQL = """
+      SELECT h.*,
+             ARRAY(SELECT it.tag_id FROM issue_tags it
+                    WHERE h.active AND it.issue_id = h.id ORDER BY it.tag_id) AS tag_ids,
+             ARRAY(SELECT t.name FROM issue_tags it JOIN tags t ON t.id = it.tag_id
+                    WHERE h.active AND it.issue_id = h.id ORDER BY it.tag_id) AS tag_names,
+             %s, %s, %s, %s
+        FROM (SELECT %s AS active
+                FROM issues i
+                JOIN projects p ON p.id = i.project_id
+               WHERE i.id = ?) h
+      """.formatted(
+          fragment(COUNT_SQL, "issue_comments", "author_user_id", "body", "h.active AND", "h.id"),
+          fragment(PAGE_SQL, "issue_comments", "author_user_id", "body", "h.active AND", "h.id"),
+          fragment(COUNT_SQL, "issue_activity", "actor_user_id", "message", "h.active AND", "h.id"),
+          fragment(PAGE_SQL, "issue_activity", "actor_user_id", "message", "h.active AND", "h.id"),
+          HEAD_COLUMNS
+      );
+
+  private static final String HEAD_SQL = """
+      SELECT %s
+        FROM issues i
+        JOIN projects p ON p.id = i.project_id
+       WHERE i.id = ?
+      """.formatted(HEAD_COLUMNS);
+
+  private static final String TAGS_SQL = """
+      SELECT t.id, t.name
+        FROM issue_tags it
+        JOIN tags t ON t.id = it.tag_id
+       WHERE it.issue_id = ?
+       ORDER BY it.tag_id
+      """;
+
+  private static final String COMMENTS_SQL = "SELECT %s, %s".formatted(
+      fragment(COUNT_SQL, "issue_comments", "author_user_id", "body", "", "?"),
+      fragment(PAGE_SQL, "issue_comments", "author_user_id", "body", "", "?")
+  );
+
+  private static final String ACTIVITY_SQL = "SELECT %s, %s".formatted(
+      fragment(COUNT_SQL, "issue_activity", "actor_user_id", "message", "", "?"),
+      fragment(PAGE_SQL, "issue_activity", "actor_user_id", "message", "", "?")
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate partJdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public IssueDetailRepository(
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      @Value("${app.parallel-reads.timeout-ms:2000}") long partTimeoutMillis
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.partJdbcTemplate = new JdbcTemplate();
+    this.partJdbcTemplate.setDataSource(jdbcTemplate.getDataSource());
+    this.partJdbcTemplate.setQueryTimeout((int) Math.max(1, (partTimeoutMillis + 999) / 1000));
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Empty when the issue does not exist. When {@code userId} is not an active member the row
+   * comes back with {@code member == false} and no tags, comments or activity.
+   */
+  public Optional<DetailRow> findDetail(long userId, long issueId, PageSlice comments, PageSlice activity) {
+    List<DetailRow> rows = jdbcTemplate.query(DETAIL_SQL, (rs, rowNum) -> new DetailRow(
+            toHead(rs),
+            tags(rs.getArray(14), rs.getArray(15)),
+            new EntryPage(rs.getLong(16), entries(rs.getString(17))),
+            new EntryPage(rs.getLong(18), entries(rs.getString(19)))
+        ),
+        comments.limit(), comments.offset(),
+        activity.limit(), activity.offset(),
+        userId,
+        issueId
+    );
+    return rows.stream().findFirst();
+  }
+
+  public Optional<IssueHead> findHead(long userId, long issueId) {
+    return partJdbcTemplate.query(HEAD_SQL, (rs, rowNum) -> toHead(rs), userId, issueId).stream().findFirst();
+  }
+
+  public List<TagRow> findTags(long issueId) {
+    return partJdbcTemplate.query(TAGS_SQL, (rs, rowNum) -> new TagRow(rs.getLong(1), rs.getString(2)), issueId);
+  }
+
+  public EntryPage findComments(long issueId, PageSlice slice) {
+    return findPage(COMMENTS_SQL, issueId, slice);
+  }
+
+  public EntryPage findActivity(long issueId, PageSlice slice) {
+    return findPage(ACTIVITY_SQL, issueId, slice);
+  }
+
+  private EntryPage findPage(String sql, long issueId, PageSlice slice) {
+    return partJdbcTemplate.queryForObject(sql, (rs, rowNum) -> new EntryPage(rs.getLong(1), entries(rs.getString(2))),
+        issueId, issueId, slice.limit(), slice.offset());
+  }
+
+  private static IssueHead toHead(ResultSet rs) throws SQLException {
+    long assigneeUserId = rs.getLong(10);
+    Long assignee = rs.wasNull() ? null : assigneeUserId;
+    var issue = new IssueListRow(
+        rs.getLong(1),
+        rs.getLong(2),
+        rs.getString(3),
+        rs.getInt(4),
+        rs.getString(5),
+        rs.getShort(7),
+        rs.getShort(8),
+        rs.getLong(9),
+        assignee,
+        rs.getObject(11, OffsetDateTime.class).toInstant(),
+        rs.getObject(12, OffsetDateTime.class).toInstant()
+    );
+    return new IssueHead(issue, rs.getString(6), rs.getBoolean(13));
+  }
+
+  private static List<TagRow> tags(Array ids, Array names) throws SQLException {
+    Object[] tagIds = (Object[]) ids.getArray();
+    Object[] tagNames = (Object[]) names.getArray();
+    List<TagRow> tags = new ArrayList<>(tagIds.length);
+    for (int i = 0; i < tagIds.length; i++) {
+      tags.add(new TagRow((Long) tagIds[i], (String) tagNames[i]));
+    }
+    return tags;
+  }
+
+  private List<EntryRow> entries(String json) {
+    try {
+      JsonNode array = objectMapper.readTree(json);
+      List<EntryRow> entries = new ArrayList<>(array.size());
+      for (JsonNode node : array) {
+        entries.add(new EntryRow(
+            node.get("id").asLong(),
+            node.get("userId").asLong(),
+            node.get("text").asText(),
+            Instant.parse(node.get("createdAt").asText())
+        ));
+      }
+      return entries;
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Malformed detail page JSON", ex);
+    }
+  }
+
+  private static String fragment(String template, String table, String userColumn, String textColumn,
+      String gate, String issueRef) {
+    return template.formatted(table, userColumn, textColumn, gate, issueRef).strip();
+  }
+
+  public record PageSlice(int limit, long offset) {
+  }
+
+  public record IssueHead(IssueListRow issue, String description, boolean member) {
+  }
+
+  public record TagRow(long id, String name) {
+  }
+
+  public record EntryPage(long total, List<EntryRow> entries) {
+  }
+
+  public record DetailRow(IssueHead head, List<TagRow> tags, EntryPage comments, EntryPage activity) {
+  }
+
+  /** A comment or activity entry: author/actor id, body/message, timestamp. */
+  public record EntryRow(long id, long userId, String text, Instant createdAt) {
+  }
+}
+
@@ -0,0 +1,111 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads every issue of a project matching the list filters through a forward-only cursor.
+ * Rows are handed to the consumer one at a time and never collected, so memory stays flat
+ * whatever the project size. The Postgres driver only honours the fetch size with autocommit
+ * off, so {@link #stream} must run inside a transaction.
+ */
+@Repository
+public class IssueExportRepository {
+  private static final int FETCH_SIZE = 500;
+
+  private static final String EXPORT_SQL = """
+      SELECT i.id, p.prefix, i.issue_number, i.title, i.description, i.status_id, i.priority_id,
+             i.owner_user_id, i.assignee_user_id, i.created_at, i.updated_at, i.closed_at,
+             ARRAY(SELECT t.name FROM issue_tags it JOIN tags t ON t.id = it.tag_id
+                    WHERE it.issue_id = i.id ORDER BY it.tag_id) AS tags
+        FROM issues i
+        JOIN projects p ON p.id = i.project_id
+       WHERE i.project_id = ?%s
+       ORDER BY i.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueExportRepository(DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+  }
+
+  public void stream(ExportQuery query, Consumer<ExportRow> consumer) {
+    List<Object> args = new ArrayList<>();
+    args.add(query.projectId());
+    var where = new StringBuilder();
+    IssueFilterSql.appendIn(where, "i.status_id", query.statusIds(), args);
+    IssueFilterSql.append(where, query.filter(), query.priorityIds(), query.tagIds(), args);
+    RowCallbackHandler handler = rs -> consumer.accept(row(rs));
+    jdbcTemplate.query(EXPORT_SQL.formatted(where), handler, args.toArray());
+  }
+
+  private static ExportRow row(ResultSet rs) throws SQLException {
+    long assigneeUserId = rs.getLong(9);
+    Long assignee = rs.wasNull() ? null : assigneeUserId;
+    return new ExportRow(
+        rs.getLong(1),
+        rs.getString(2),
+        rs.getInt(3),
+        rs.getString(4),
+        rs.getString(5),
+        rs.getShort(6),
+        rs.getShort(7),
+        rs.getLong(8),
+        assignee,
+        instant(rs, 10),
+        instant(rs, 11),
+        instant(rs, 12),
+        Arrays.stream((Object[]) rs.getArray(13).getArray()).map(String.class::cast).toList()
+    );
+  }
+
+  private static Instant instant(ResultSet rs, int column) throws SQLException {
+    var value = rs.getObject(column, OffsetDateTime.class);
+    return value == null ? null : value.toInstant();
+  }
+
+  public record ExportQuery(
+      long projectId,
+      IssueFilter filter,
+      List<Short> statusIds,
+      List<Short> priorityIds,
+      List<Long> tagIds
+  ) {
+  }
+
+  public record ExportRow(
+      long id,
+      String projectPrefix,
+      int issueNumber,
+      String title,
+      String description,
+      short statusId,
+      short priorityId,
+      long ownerUserId,
+      Long assigneeUserId,
+      Instant createdAt,
+      Instant updatedAt,
+      Instant closedAt,
+      List<String> tags
+  ) {
+  }
+}
+
@@ -0,0 +1,95 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.domain.model.IssueFilter.TagMatch;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SQL twin of the issue list specifications for the JDBC repositories. Appends
+ * {@code AND ...} clauses against an {@code issues i} alias and collects their bind values,
+ * so hand-written queries filter exactly like the list endpoint.
+ */
+final class IssueFilterSql {
+  private IssueFilterSql() {
+  }
+
+  static void append(
+      StringBuilder sql,
+      IssueFilter filter,
+      List<Short> priorityIds,
+      List<Long> tagIds,
+      List<Object> args
+  ) {
+    appendIn(sql, "i.priority_id", priorityIds, args);
+    if (filter.filtersAssignee()) {
+      List<String> assignee = new ArrayList<>();
+      if (!filter.assigneeIds().isEmpty()) {
+        assignee.add("i.assignee_user_id IN (" + placeholders(filter.assigneeIds().size()) + ")");
+        args.addAll(filter.assigneeIds());
+      }
+      if (filter.unassigned()) {
+        assignee.add("i.assignee_user_id IS NULL");
+      }
+      sql.append(" AND (").append(String.join(" OR ", assignee)).append(")");
+    }
+    if (!tagIds.isEmpty()) {
+      if (filter.tagMatch() == TagMatch.ALL) {
+        for (Long tagId : tagIds) {
+          sql.append(" AND EXISTS (SELECT 1 FROM issue_tags it WHERE it.issue_id = i.id AND it.tag_id = ?)");
+          args.add(tagId);
+        }
+      } else {
+        sql.append(" AND EXISTS (SELECT 1 FROM issue_tags it WHERE it.issue_id = i.id AND it.tag_id IN (")
+            .append(placeholders(tagIds.size()))
+            .append("))");
+        args.addAll(tagIds);
+      }
+    }
+    if (filter.query() != null) {
+      sql.append(" AND lower(i.title) LIKE ?");
+      args.add("%" + filter.query().toLowerCase(Locale.ROOT) + "%");
+    }
+    appendRange(sql, "i.created_at", filter.createdFrom(), filter.createdTo(), args);
+    appendRange(sql, "i.updated_at", filter.updatedFrom(), filter.updatedTo(), args);
+    appendRange(sql, "i.closed_at", filter.closedFrom(), filter.closedTo(), args);
+  }
+
+  static void appendIn(StringBuilder sql, String column, Collection<?> values, List<Object> args) {
+    if (!values.isEmpty()) {
+      sql.append(" AND ").append(column).append(" IN (").append(placeholders(values.size())).append(")");
+      args.addAll(values);
+    }
+  }
+
+  static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  static OffsetDateTime timestamp(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  private static void appendRange(StringBuilder sql, String column, Instant from, Instant to, List<Object> args) {
+    if (from != null) {
+      sql.append(" AND ").append(column).append(" >= ?");
+      args.add(timestamp(from));
+    }
+    if (to != null) {
+      sql.append(" AND ").append(column).append(" < ?");
+      args.add(timestamp(to));
+    }
+  }
+}
+
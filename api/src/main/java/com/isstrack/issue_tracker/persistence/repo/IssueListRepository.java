@@ -0,0 +1,40 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Read path for issue lists: selects only the columns an {@code IssueDto} needs, with no entity
+ * loading, lazy associations or description column.
+ */
+public interface IssueListRepository {
+  Slice<IssueListRow> findListSlice(Specification<IssueEntity> spec, Pageable pageable);
+
+  List<IssueListRow> findListRows(Specification<IssueEntity> spec, Sort sort, int limit);
+
+  record IssueListRow(
+      Long id,
+      Long projectId,
+      String projectPrefix,
+      Integer issueNumber,
+      String title,
+      Short statusId,
+      Short priorityId,
+      Long ownerUserId,
+      Long assigneeUserId,
+      Instant createdAt,
+      Instant updatedAt
+  ) {
+  }
+}
+
@@ -0,0 +1,72 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Slices read one row past the page to answer {@code hasNext} instead of running a count.
+ * To-one ids are read from the foreign keys; only {@code projects} is joined, for the prefix.
+ */
+class IssueListRepositoryImpl implements IssueListRepository {
+  private final EntityManager entityManager;
+
+  IssueListRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Slice<IssueListRow> findListSlice(Specification<IssueEntity> spec, Pageable pageable) {
+    var rows = query(spec, pageable.getSort())
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize() + 1)
+        .getResultList();
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  @Override
+  public List<IssueListRow> findListRows(Specification<IssueEntity> spec, Sort sort, int limit) {
+    return query(spec, sort).setMaxResults(limit).getResultList();
+  }
+
+  private TypedQuery<IssueListRow> query(Specification<IssueEntity> spec, Sort sort) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(IssueListRow.class);
+    var root = query.from(IssueEntity.class);
+    var project = root.join("project");
+    query.select(builder.construct(
+        IssueListRow.class,
+        root.get("id"),
+        project.get("id"),
+        project.get("prefix"),
+        root.get("issueNumber"),
+        root.get("title"),
+        root.get("status").get("statusId"),
+        root.get("priority").get("priorityId"),
+        root.get("owner").get("id"),
+        root.get("assignee").get("id"),
+        root.get("createdAt"),
+        root.get("updatedAt")
+    ));
+    var predicate = spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, builder));
+    return entityManager.createQuery(query);
+  }
+}
+
@@ -6,25 +6,61 @@
 package com.isstrack.issue_tracker.persistence.repo;
 
 import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface IssueRepository extends JpaRepository<IssueEntity, Long>, JpaSpecificationExecutor<IssueEntity> {
+public interface IssueRepository extends JpaRepository<IssueEntity, Long>, JpaSpecificationExecutor<IssueEntity>,
+    IssueListRepository {
   @Query("""
-      select issue
+      select issue.project.id as projectId, issue.version as version
       from IssueEntity issue
-      join fetch issue.project
-      join fetch issue.status
-      join fetch issue.priority
-      join fetch issue.owner
-      left join fetch issue.assignee
       where issue.id = :issueId
       """)
-  Optional<IssueEntity> findIssueDetailById(@Param("issueId") Long issueId);
+  Optional<IssueVersionView> findVersionById(@Param("issueId") Long issueId);
 
-  int countByProjectId(long projectId);
+  @Query("""
+      select issue.id as id, issue.issueNumber as issueNumber, issue.title as title, project.prefix as prefix
+      from IssueEntity issue
+      join issue.project project
+      where project.id = :projectId
+      order by issue.id
+      """)
+  List<IssueSuggestionView> findSuggestionsByProjectId(@Param("projectId") Long projectId);
+
+  @Query("""
+      select issue.id as id, issue.issueNumber as issueNumber, issue.title as title, project.prefix as prefix
+      from IssueEntity issue
+      join issue.project project
+      where project.id = :projectId
+        and (lower(issue.title) like :pattern or issue.issueNumber = :issueNumber)
+      order by issue.id desc
+      """)
+  List<IssueSuggestionView> searchSuggestions(
+      @Param("projectId") Long projectId,
+      @Param("pattern") String pattern,
+      @Param("issueNumber") Integer issueNumber,
+      Pageable pageable
+  );
+
+  interface IssueSuggestionView {
+    Long getId();
+
+    Integer getIssueNumber();
+
+    String getTitle();
+
+    String getPrefix();
+  }
+
+  interface IssueVersionView {
+    Long getProjectId();
+
+    int getVersion();
+  }
 }
 
@@ -0,0 +1,97 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Full-text search over {@code issues.search_vector}, which triggers keep in sync with the
+ * title, description and comment bodies. Snippets mark matches with {@link #MATCH_START}
+ * and {@link #MATCH_END} so callers can escape the text before turning them into markup.
+ */
+@Repository
+public class IssueSearchRepository {
+  public static final String MATCH_START = "\u0002";
+  public static final String MATCH_END = "\u0003";
+
+  private static final String HEADLINE_OPTIONS =
+      "StartSel=" + MATCH_START + ", StopSel=" + MATCH_END + ", MinWords=10, MaxWords=30, MaxFragments=2";
+
+  private static final String SEARCH_SQL = """
+      WITH query AS (SELECT websearch_to_tsquery('english', ?) AS q)
+      SELECT hit.id, hit.rank,
+             ts_headline('english', hit.title || ' ' || coalesce(hit.description, ''), query.q, ?) AS snippet
+        FROM (
+          SELECT i.id, i.title, i.description, ts_rank_cd(i.search_vector, query.q, 32) AS rank
+            FROM issues i, query
+           WHERE %s
+           ORDER BY rank DESC, i.id DESC
+           LIMIT ? OFFSET ?
+        ) hit, query
+       ORDER BY hit.rank DESC, hit.id DESC
+      """;
+
+  private static final String COUNT_SQL = """
+      WITH query AS (SELECT websearch_to_tsquery('english', ?) AS q)
+      SELECT count(*)
+        FROM issues i, query
+       WHERE %s
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueSearchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<SearchHit> search(SearchFilter filter, long offset, int limit) {
+    List<Object> args = new ArrayList<>();
+    args.add(filter.text());
+    args.add(HEADLINE_OPTIONS);
+    var where = where(filter, args);
+    args.add(limit);
+    args.add(offset);
+    return jdbcTemplate.query(SEARCH_SQL.formatted(where), (rs, rowNum) -> new SearchHit(
+        rs.getLong(1),
+        rs.getDouble(2),
+        rs.getString(3)
+    ), args.toArray());
+  }
+
+  public long count(SearchFilter filter) {
+    List<Object> args = new ArrayList<>();
+    args.add(filter.text());
+    var where = where(filter, args);
+    Long total = jdbcTemplate.queryForObject(COUNT_SQL.formatted(where), Long.class, args.toArray());
+    return total == null ? 0 : total;
+  }
+
+  private static String where(SearchFilter search, List<Object> args) {
+    var sql = new StringBuilder("i.project_id = ? AND i.search_vector @@ query.q");
+    args.add(search.projectId());
+    IssueFilterSql.appendIn(sql, "i.status_id", search.statusIds(), args);
+    IssueFilterSql.append(sql, search.filter(), search.priorityIds(), search.tagIds(), args);
+    return sql.toString();
+  }
+
+  public record SearchFilter(
+      long projectId,
+      String text,
+      IssueFilter filter,
+      List<Short> statusIds,
+      List<Short> priorityIds,
+      List<Long> tagIds
+  ) {
+  }
+
+  public record SearchHit(long issueId, double rank, String snippet) {
+  }
+}
+
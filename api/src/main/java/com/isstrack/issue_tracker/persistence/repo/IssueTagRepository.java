@@ -7,19 +7,27 @@ package com.isstrack.issue_tracker.persistence.repo;
 
 import com.isstrack.issue_tracker.persistence.entity.IssueTagEntity;
 import com.isstrack.issue_tracker.persistence.entity.IssueTagEntity.IssueTagId;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface IssueTagRepository extends JpaRepository<IssueTagEntity, IssueTagId> {
   @Query("""
-      select it.issue.id, it.tag.name
+      select it.issue.id, it.tag.name, it.tag.id
       from IssueTagEntity it
       where it.issue.id in :issueIds
+      order by it.tag.id
       """)
   List<Object[]> findIssueTagsByIssueIds(@Param("issueIds") List<Long> issueIds);
 
-  void deleteByIssue_Id(Long issueId);
+  @Modifying
+  @Query("""
+      delete from IssueTagEntity it
+      where it.issue.id = :issueId and it.tag.id in :tagIds
+      """)
+  int deleteByIssueIdAndTagIds(@Param("issueId") Long issueId, @Param("tagIds") Collection<Long> tagIds);
 }
 
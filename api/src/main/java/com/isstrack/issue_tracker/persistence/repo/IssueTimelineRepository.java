@@ -0,0 +1,100 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Comments and activity of one issue merged into a single stream ordered by {@code seq}. The
+ * {@code issue_timeline_next_seq} trigger stamps every new comment and activity row with the
+ * issue's next {@code timeline_seq}, taken under the issue row lock that is held until commit.
+ * Sequence numbers therefore become visible in commit order, unlike {@code created_at}, which is
+ * set before commit: a reader polling with a watermark never skips a transaction that commits
+ * after it read. Each side seeks through its {@code (issue_id, seq)} index and stops at
+ * {@code limit} rows before the two are merged, so a page never reads more than
+ * {@code 2 * limit} rows whatever the issue's history.
+ */
+@Repository
+public class IssueTimelineRepository {
+  private static final String SIDE_SQL = """
+      (SELECT %1$d AS kind, e.id, e.%3$s AS user_id, e.%4$s AS text, e.created_at, e.seq
+         FROM %2$s e
+        WHERE e.issue_id = ?%5$s
+        ORDER BY e.seq %6$s
+        LIMIT ?)
+      """;
+
+  private static final String TIMELINE_SQL = """
+      SELECT kind, id, user_id, text, created_at, seq
+        FROM (%s UNION ALL %s) t
+       ORDER BY seq %3$s
+       LIMIT ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IssueTimelineRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Up to {@code limit} entries strictly after {@code fromSeq} in the given direction: older
+   * ones, newest first, when {@code newer} is false; newer ones, oldest first, when it is true.
+   * A null {@code fromSeq} starts at the newest or the oldest entry.
+   */
+  public List<TimelineRow> findEntries(long issueId, Long fromSeq, boolean newer, int limit) {
+    String direction = newer ? "ASC" : "DESC";
+    List<Object> args = new ArrayList<>();
+    String comments = side(Kind.COMMENT, "issue_comments", "author_user_id", "body", issueId, fromSeq, newer, limit, args);
+    String activity = side(Kind.ACTIVITY, "issue_activity", "actor_user_id", "message", issueId, fromSeq, newer, limit, args);
+    args.add(limit);
+    var sql = TIMELINE_SQL.formatted(comments, activity, direction);
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new TimelineRow(
+        Kind.values()[rs.getInt(1)],
+        rs.getLong(2),
+        rs.getLong(3),
+        rs.getString(4),
+        rs.getObject(5, OffsetDateTime.class).toInstant(),
+        rs.getLong(6)
+    ), args.toArray());
+  }
+
+  private static String side(
+      Kind kind,
+      String table,
+      String userColumn,
+      String textColumn,
+      long issueId,
+      Long fromSeq,
+      boolean newer,
+      int limit,
+      List<Object> args
+  ) {
+    args.add(issueId);
+    String seek = "";
+    if (fromSeq != null) {
+      seek = newer ? " AND e.seq > ?" : " AND e.seq < ?";
+      args.add(fromSeq);
+    }
+    args.add(limit);
+    return SIDE_SQL.formatted(kind.ordinal(), table, userColumn, textColumn, seek, newer ? "ASC" : "DESC").strip();
+  }
+
+  public enum Kind {
+    ACTIVITY,
+    COMMENT
+  }
+
+  /** {@code seq} is unique per issue across both kinds and is the timeline position. */
+  public record TimelineRow(Kind kind, long id, long userId, String text, Instant createdAt, long seq) {
+  }
+}
+
@@ -0,0 +1,83 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Per-project change log: one row per changed issue or membership, stamped with the project's
+ * next {@code change_seq}. Taking the sequence from the project row locks it until commit, so
+ * sequence numbers become visible in commit order and a reader never skips a late commit.
+ */
+@Repository
+public class ProjectChangeRepository {
+  private static final String RECORD_SQL = """
+      WITH next AS (
+        UPDATE projects SET change_seq = change_seq + ? WHERE id = ? RETURNING change_seq
+      )
+      INSERT INTO project_changes (project_id, entity, entity_id, seq)
+      SELECT ?, ?, changed.id, next.change_seq - ? + changed.n
+        FROM next, unnest(?::bigint[]) WITH ORDINALITY AS changed (id, n)
+      ON CONFLICT (project_id, entity, entity_id)
+      DO UPDATE SET seq = EXCLUDED.seq
+      """;
+
+  private static final String WATERMARK_SQL = "SELECT change_seq FROM projects WHERE id = ?";
+
+  private static final String SINCE_SQL = """
+      SELECT entity, entity_id, seq
+        FROM project_changes
+       WHERE project_id = ? AND seq > ?
+       ORDER BY seq
+       LIMIT ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ProjectChangeRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Stamps {@code entityIds} with consecutive sequence numbers, replacing older rows for them. */
+  public void record(long projectId, Entity entity, List<Long> entityIds) {
+    if (entityIds.isEmpty()) {
+      return;
+    }
+    int count = entityIds.size();
+    jdbcTemplate.update(RECORD_SQL, ps -> {
+      ps.setInt(1, count);
+      ps.setLong(2, projectId);
+      ps.setLong(3, projectId);
+      ps.setString(4, entity.name());
+      ps.setInt(5, count);
+      ps.setArray(6, ps.getConnection().createArrayOf("bigint", entityIds.toArray()));
+    });
+  }
+
+  public long watermark(long projectId) {
+    List<Long> rows = jdbcTemplate.queryForList(WATERMARK_SQL, Long.class, projectId);
+    return rows.isEmpty() ? 0 : rows.get(0);
+  }
+
+  public List<ChangeRow> findSince(long projectId, long since, int limit) {
+    return jdbcTemplate.query(SINCE_SQL, (rs, rowNum) -> new ChangeRow(
+        Entity.valueOf(rs.getString(1)),
+        rs.getLong(2),
+        rs.getLong(3)
+    ), projectId, since, limit);
+  }
+
+  public enum Entity {
+    ISSUE,
+    MEMBERSHIP
+  }
+
+  public record ChangeRow(Entity entity, long entityId, long seq) {
+  }
+}
+
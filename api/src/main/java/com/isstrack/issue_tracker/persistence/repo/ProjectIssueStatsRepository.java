@@ -0,0 +1,71 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Per-project issue counts by status, priority and assignee. Unassigned issues are stored under
+ * assignee value 0. Rows are only ever adjusted by deltas, so a count that drops to zero stays
+ * behind and is filtered out on read.
+ */
+@Repository
+public class ProjectIssueStatsRepository {
+  private static final String APPLY_DELTA_SQL = """
+      INSERT INTO project_issue_stats (project_id, facet, value_id, issue_count)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (project_id, facet, value_id)
+      DO UPDATE SET issue_count = project_issue_stats.issue_count + EXCLUDED.issue_count
+      """;
+
+  private static final String FIND_BY_PROJECT_SQL = """
+      SELECT facet, value_id, issue_count
+      FROM project_issue_stats
+      WHERE project_id = ? AND issue_count > 0
+      ORDER BY facet, value_id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ProjectIssueStatsRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void applyDeltas(long projectId, List<StatDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+      ps.setLong(1, projectId);
+      ps.setString(2, delta.facet().name());
+      ps.setLong(3, delta.valueId());
+      ps.setLong(4, delta.delta());
+    });
+  }
+
+  public List<StatRow> findByProjectId(long projectId) {
+    return jdbcTemplate.query(FIND_BY_PROJECT_SQL, (rs, rowNum) -> new StatRow(
+        Facet.valueOf(rs.getString(1)),
+        rs.getLong(2),
+        rs.getLong(3)
+    ), projectId);
+  }
+
+  public enum Facet {
+    STATUS,
+    PRIORITY,
+    ASSIGNEE
+  }
+
+  public record StatDelta(Facet facet, long valueId, long delta) {
+  }
+
+  public record StatRow(Facet facet, long valueId, long count) {
+  }
+}
+
@@ -6,10 +6,15 @@
 package com.isstrack.issue_tracker.persistence.repo;
 
 import com.isstrack.issue_tracker.persistence.entity.ProjectMembershipEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectMembershipRepository extends JpaRepository<ProjectMembershipEntity, Long> {
   Optional<ProjectMembershipEntity> findByProjectIdAndUserIdAndStatus(
@@ -20,10 +25,44 @@ public interface ProjectMembershipRepository extends JpaRepository<ProjectMember
 
   boolean existsByProjectIdAndUserIdAndStatus(Long projectId, Long userId, String status);
 
+  @Query("""
+      select membership.role
+      from ProjectMembershipEntity membership
+      where membership.project.id = :projectId
+        and membership.user.id = :userId
+        and membership.status = :status
+      """)
+  Optional<String> findRoleByProjectIdAndUserIdAndStatus(
+      @Param("projectId") Long projectId,
+      @Param("userId") Long userId,
+      @Param("status") String status
+  );
+
+  @Query("""
+      select membership.user.id
+      from ProjectMembershipEntity membership
+      where membership.project.id = :projectId
+        and membership.status = :status
+        and membership.user.id in :userIds
+      """)
+  List<Long> findUserIdsByProjectIdAndStatusAndUserIdIn(
+      @Param("projectId") Long projectId,
+      @Param("status") String status,
+      @Param("userIds") Collection<Long> userIds
+  );
+
   Page<ProjectMembershipEntity> findByProjectIdAndStatus(Long projectId, String status, Pageable pageable);
 
   Page<ProjectMembershipEntity> findByUserIdAndStatus(Long userId, String status, Pageable pageable);
 
+  Slice<ProjectMembershipEntity> findSliceByProjectIdAndStatus(Long projectId, String status, Pageable pageable);
+
+  Slice<ProjectMembershipEntity> findSliceByUserIdAndStatus(Long userId, String status, Pageable pageable);
+
+  long countByProjectIdAndStatus(Long projectId, String status);
+
+  long countByUserIdAndStatus(Long userId, String status);
+
   Optional<ProjectMembershipEntity> findByProjectIdAndInvitedEmailIgnoreCaseAndStatus(
       Long projectId,
       String email,
@@ -0,0 +1,17 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import com.isstrack.issue_tracker.persistence.entity.SavedViewEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SavedViewRepository extends JpaRepository<SavedViewEntity, Long> {
+  List<SavedViewEntity> findByProjectIdAndUserIdOrderByNameAsc(Long projectId, Long userId);
+
+  boolean existsByProjectIdAndUserIdAndName(Long projectId, Long userId, String name);
+}
+
@@ -0,0 +1,45 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.persistence.repo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TagBatchRepository {
+  private static final String INSERT_PREFIX = "INSERT INTO tags (name) VALUES ";
+  private static final String INSERT_SUFFIX = " ON CONFLICT (name) DO NOTHING RETURNING id, name";
+  private static final String SELECT_PREFIX = "SELECT id, name FROM tags WHERE name IN (";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public TagBatchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<TagRow> insertMissing(Collection<String> names) {
+    if (names.isEmpty()) {
+      return List.of();
+    }
+    var sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(names.size(), "(?)")) + INSERT_SUFFIX;
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new TagRow(rs.getLong(1), rs.getString(2)), names.toArray());
+  }
+
+  public List<TagRow> findByNames(Collection<String> names) {
+    if (names.isEmpty()) {
+      return List.of();
+    }
+    var sql = SELECT_PREFIX + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new TagRow(rs.getLong(1), rs.getString(2)), names.toArray());
+  }
+
+  public record TagRow(long id, String name) {
+  }
+}
+
@@ -6,8 +6,12 @@
 package com.isstrack.issue_tracker.persistence.repo;
 
 import com.isstrack.issue_tracker.persistence.entity.UserEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
   Optional<UserEntity> findByEmailIgnoreCase(String email);
@@ -15,5 +19,40 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
   Optional<UserEntity> findByUsernameIgnoreCase(String username);
 
   Optional<UserEntity> findByEmailIgnoreCaseOrUsernameIgnoreCase(String email, String username);
+
+  @Query("""
+      select user.id as id, user.username as username, user.firstName as firstName,
+             user.lastName as lastName, user.isActive as active
+      from UserEntity user
+      where user.id in :ids
+      """)
+  List<UserSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      select distinct theirs.user.id
+      from ProjectMembershipEntity theirs, ProjectMembershipEntity mine
+      where mine.project = theirs.project
+        and mine.user.id = :userId
+        and mine.status = :status
+        and theirs.status = :status
+        and theirs.user.id in :ids
+      """)
+  List<Long> findIdsSharingProjectWith(
+      @Param("userId") Long userId,
+      @Param("status") String status,
+      @Param("ids") Collection<Long> ids
+  );
+
+  interface UserSummaryView {
+    Long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Boolean getActive();
+  }
 }
 
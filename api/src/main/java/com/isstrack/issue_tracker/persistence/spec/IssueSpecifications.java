@@ -6,6 +6,11 @@
 package com.isstrack.issue_tracker.persistence.spec;
 
 import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import com.isstrack.issue_tracker.persistence.entity.IssueTagEntity;
+import jakarta.persistence.criteria.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class IssueSpecifications {
@@ -16,30 +21,64 @@ public final class IssueSpecifications {
     return (root, query, builder) -> builder.equal(root.get("project").get("id"), projectId);
   }
 
-  public static Specification<IssueEntity> byStatusName(String statusName) {
-    return (root, query, builder) -> builder.equal(
-        builder.lower(root.get("status").get("name")),
-        statusName.toLowerCase()
-    );
+  public static Specification<IssueEntity> byIds(Collection<Long> issueIds) {
+    return (root, query, builder) -> root.get("id").in(issueIds);
   }
 
-  public static Specification<IssueEntity> byPriorityName(String priorityName) {
-    return (root, query, builder) -> builder.equal(
-        builder.lower(root.get("priority").get("name")),
-        priorityName.toLowerCase()
-    );
+  public static Specification<IssueEntity> none() {
+    return (root, query, builder) -> builder.disjunction();
+  }
+
+  public static Specification<IssueEntity> byStatusIds(Collection<Short> statusIds) {
+    return (root, query, builder) -> root.get("status").get("statusId").in(statusIds);
+  }
+
+  public static Specification<IssueEntity> byPriorityIds(Collection<Short> priorityIds) {
+    return (root, query, builder) -> root.get("priority").get("priorityId").in(priorityIds);
+  }
+
+  public static Specification<IssueEntity> byAssignees(Collection<Long> assigneeIds, boolean unassigned) {
+    return (root, query, builder) -> {
+      var assignee = root.get("assignee");
+      if (assigneeIds.isEmpty()) {
+        return builder.isNull(assignee);
+      }
+      var assigned = assignee.get("id").in(assigneeIds);
+      return unassigned ? builder.or(assigned, builder.isNull(assignee)) : assigned;
+    };
+  }
+
+  /**
+   * Issues carrying at least one of the tags, as an EXISTS probe on issue_tags(tag_id, issue_id)
+   * rather than a join, so the outer query needs no DISTINCT.
+   */
+  public static Specification<IssueEntity> withAnyTag(Collection<Long> tagIds) {
+    return (root, query, builder) -> {
+      var subquery = query.subquery(Integer.class);
+      var issueTag = subquery.from(IssueTagEntity.class);
+      subquery.select(builder.literal(1)).where(
+          builder.equal(issueTag.get("id").get("issueId"), root.get("id")),
+          issueTag.get("id").get("tagId").in(tagIds)
+      );
+      return builder.exists(subquery);
+    };
   }
 
-  public static Specification<IssueEntity> byAssigneeId(Long assigneeId) {
-    return (root, query, builder) -> builder.equal(root.get("assignee").get("id"), assigneeId);
+  public static Specification<IssueEntity> withAllTags(Collection<Long> tagIds) {
+    Specification<IssueEntity> spec = Specification.where(null);
+    for (Long tagId : tagIds) {
+      spec = spec.and(withAnyTag(List.of(tagId)));
+    }
+    return spec;
   }
 
-  public static Specification<IssueEntity> byTagName(String tagName) {
+  public static Specification<IssueEntity> byInstantRange(String field, Instant from, Instant to) {
     return (root, query, builder) -> {
-      query.distinct(true);
-      var issueTagJoin = root.join("issueTags");
-      var tagJoin = issueTagJoin.join("tag");
-      return builder.equal(builder.lower(tagJoin.get("name")), tagName.toLowerCase());
+      Path<Instant> value = root.get(field);
+      if (from != null && to != null) {
+        return builder.and(builder.greaterThanOrEqualTo(value, from), builder.lessThan(value, to));
+      }
+      return from != null ? builder.greaterThanOrEqualTo(value, from) : builder.lessThan(value, to);
     };
   }
 
@@ -49,5 +88,31 @@ public final class IssueSpecifications {
         "%" + queryText.toLowerCase() + "%"
     );
   }
+
+  /**
+   * Rows strictly after {@code (value, id)} in {@code (field, id)} order. The redundant
+   * {@code field <= value} bound lets Postgres turn the seek into an index range scan.
+   */
+  public static <T extends Comparable<? super T>> Specification<IssueEntity> seek(
+      String field,
+      boolean ascending,
+      T value,
+      long id
+  ) {
+    return (root, query, builder) -> {
+      Path<T> key = root.get(field);
+      Path<Long> issueId = root.get("id");
+      if (ascending) {
+        return builder.and(
+            builder.greaterThanOrEqualTo(key, value),
+            builder.or(builder.greaterThan(key, value), builder.greaterThan(issueId, id))
+        );
+      }
+      return builder.and(
+          builder.lessThanOrEqualTo(key, value),
+          builder.or(builder.lessThan(key, value), builder.lessThan(issueId, id))
+      );
+    };
+  }
 }
 
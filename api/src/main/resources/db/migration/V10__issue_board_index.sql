@@ -0,0 +1,2 @@
+CREATE INDEX idx_issues_project_status_updated_at_id ON issues(project_id, status_id, updated_at DESC, id DESC);
+DROP INDEX idx_issues_project_status_updated_at;
@@ -0,0 +1,11 @@
+ALTER TABLE projects ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE project_changes (
+  project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+  entity VARCHAR(16) NOT NULL,
+  entity_id BIGINT NOT NULL,
+  seq BIGINT NOT NULL,
+  PRIMARY KEY (project_id, entity, entity_id)
+);
+
+CREATE INDEX idx_project_changes_project_seq ON project_changes(project_id, seq);
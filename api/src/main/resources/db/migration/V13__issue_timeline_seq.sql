@@ -0,0 +1,42 @@
+ALTER TABLE issues ADD COLUMN timeline_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE issue_comments ADD COLUMN seq BIGINT;
+ALTER TABLE issue_activity ADD COLUMN seq BIGINT;
+
+CREATE TEMPORARY TABLE timeline_backfill ON COMMIT DROP AS
+SELECT kind, id, issue_id, row_number() OVER (PARTITION BY issue_id ORDER BY created_at, kind, id) AS seq
+  FROM (
+    SELECT 0 AS kind, id, issue_id, created_at FROM issue_activity
+    UNION ALL
+    SELECT 1 AS kind, id, issue_id, created_at FROM issue_comments
+  ) entries;
+
+UPDATE issue_activity a SET seq = b.seq FROM timeline_backfill b WHERE b.kind = 0 AND b.id = a.id;
+UPDATE issue_comments c SET seq = b.seq FROM timeline_backfill b WHERE b.kind = 1 AND b.id = c.id;
+UPDATE issues i
+   SET timeline_seq = b.seq
+  FROM (SELECT issue_id, MAX(seq) AS seq FROM timeline_backfill GROUP BY issue_id) b
+ WHERE b.issue_id = i.id;
+
+ALTER TABLE issue_activity ALTER COLUMN seq SET NOT NULL;
+ALTER TABLE issue_comments ALTER COLUMN seq SET NOT NULL;
+
+CREATE FUNCTION issue_timeline_next_seq() RETURNS trigger AS $$
+BEGIN
+  UPDATE issues
+     SET timeline_seq = timeline_seq + 1
+   WHERE id = NEW.issue_id
+  RETURNING timeline_seq INTO NEW.seq;
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_issue_activity_timeline_seq
+  BEFORE INSERT ON issue_activity
+  FOR EACH ROW EXECUTE FUNCTION issue_timeline_next_seq();
+
+CREATE TRIGGER trg_issue_comments_timeline_seq
+  BEFORE INSERT ON issue_comments
+  FOR EACH ROW EXECUTE FUNCTION issue_timeline_next_seq();
+
+CREATE UNIQUE INDEX idx_issue_activity_issue_seq ON issue_activity(issue_id, seq);
+CREATE UNIQUE INDEX idx_issue_comments_issue_seq ON issue_comments(issue_id, seq);
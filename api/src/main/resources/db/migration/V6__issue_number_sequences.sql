@@ -0,0 +1,16 @@
+DO $$
+DECLARE
+  project RECORD;
+BEGIN
+  FOR project IN
+    SELECT p.id, COALESCE(MAX(i.issue_number), 0) AS last_number
+    FROM projects p
+    LEFT JOIN issues i ON i.project_id = p.id
+    GROUP BY p.id
+  LOOP
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS issue_number_seq_%s MINVALUE 1', project.id);
+    IF project.last_number > 0 THEN
+      PERFORM setval(format('issue_number_seq_%s', project.id), project.last_number);
+    END IF;
+  END LOOP;
+END $$;
@@ -0,0 +1 @@
+CREATE INDEX idx_issues_project_created_at ON issues(project_id, created_at DESC, id DESC);
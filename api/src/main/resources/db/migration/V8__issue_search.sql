@@ -0,0 +1,56 @@
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE issues ADD COLUMN comment_vector TSVECTOR NOT NULL DEFAULT ''::tsvector;
+ALTER TABLE issues ADD COLUMN search_vector TSVECTOR NOT NULL DEFAULT ''::tsvector;
+
+CREATE FUNCTION issues_refresh_search_vector() RETURNS trigger AS $$
+BEGIN
+  NEW.search_vector :=
+      setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A')
+      || setweight(to_tsvector('english', coalesce(NEW.description, '')), 'B')
+      || NEW.comment_vector;
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_issues_search_vector
+  BEFORE INSERT OR UPDATE OF title, description, comment_vector ON issues
+  FOR EACH ROW EXECUTE FUNCTION issues_refresh_search_vector();
+
+CREATE FUNCTION issue_comments_refresh_search_vector() RETURNS trigger AS $$
+DECLARE
+  target_issue_id BIGINT;
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    target_issue_id := OLD.issue_id;
+  ELSE
+    target_issue_id := NEW.issue_id;
+  END IF;
+  UPDATE issues
+     SET comment_vector = (
+       SELECT setweight(to_tsvector('english', coalesce(string_agg(body, ' '), '')), 'C')
+         FROM issue_comments
+        WHERE issue_id = target_issue_id
+     )
+   WHERE id = target_issue_id;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_issue_comments_search_vector
+  AFTER INSERT OR UPDATE OF body OR DELETE ON issue_comments
+  FOR EACH ROW EXECUTE FUNCTION issue_comments_refresh_search_vector();
+
+UPDATE issues
+   SET comment_vector = comments.vector
+  FROM (
+    SELECT issue_id, setweight(to_tsvector('english', string_agg(body, ' ')), 'C') AS vector
+      FROM issue_comments
+     GROUP BY issue_id
+  ) comments
+ WHERE comments.issue_id = issues.id;
+
+UPDATE issues SET title = title WHERE search_vector = ''::tsvector;
+
+CREATE INDEX idx_issues_project_search ON issues USING gin (project_id, search_vector);
+CREATE INDEX idx_issues_title_lower_trgm ON issues USING gin (lower(title) gin_trgm_ops);
@@ -0,0 +1,16 @@
+CREATE TABLE project_issue_stats (
+  project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+  facet VARCHAR(16) NOT NULL,
+  value_id BIGINT NOT NULL,
+  issue_count BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id, facet, value_id)
+);
+
+INSERT INTO project_issue_stats (project_id, facet, value_id, issue_count)
+SELECT project_id, 'STATUS', status_id, COUNT(*) FROM issues GROUP BY project_id, status_id
+UNION ALL
+SELECT project_id, 'PRIORITY', priority_id, COUNT(*) FROM issues GROUP BY project_id, priority_id
+UNION ALL
+SELECT project_id, 'ASSIGNEE', COALESCE(assignee_user_id, 0), COUNT(*)
+FROM issues
+GROUP BY project_id, COALESCE(assignee_user_id, 0);
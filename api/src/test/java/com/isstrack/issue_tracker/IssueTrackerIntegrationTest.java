@@ -7,7 +7,10 @@ package com.isstrack.issue_tracker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.isstrack.issue_tracker.api.dto.AddCommentRequest;
 import com.isstrack.issue_tracker.api.dto.AuthResponse;
+import com.isstrack.issue_tracker.api.dto.BoardColumnDto;
+import com.isstrack.issue_tracker.api.dto.BoardDto;
 import com.isstrack.issue_tracker.api.dto.CreateIssueRequest;
 import com.isstrack.issue_tracker.api.dto.CreateProjectRequest;
 import com.isstrack.issue_tracker.api.dto.IssueDetailDto;
@@ -15,19 +18,39 @@ import com.isstrack.issue_tracker.api.dto.IssueDto;
 import com.isstrack.issue_tracker.api.dto.LoginRequest;
 import com.isstrack.issue_tracker.api.dto.PageResponse;
 import com.isstrack.issue_tracker.api.dto.PatchIssueRequest;
+import com.isstrack.issue_tracker.api.dto.ProjectChangesDto;
 import com.isstrack.issue_tracker.api.dto.RegisterRequest;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.web.client.RestTemplate;
@@ -50,6 +73,7 @@ class IssueTrackerIntegrationTest {
     registry.add("spring.datasource.username", postgres::getUsername);
     registry.add("spring.datasource.password", postgres::getPassword);
     registry.add("app.jwt.secret", () -> "TEST_SECRET_12345678901234567890123456789012");
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
   }
 
   @LocalServerPort
@@ -58,6 +82,12 @@ class IssueTrackerIntegrationTest {
   @Autowired
   TestRestTemplate restTemplate;
 
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
   @Test
   void fullIssueLifecycleWithFilters() {
     AuthResponse auth = registerAndLogin();
@@ -77,22 +107,195 @@ class IssueTrackerIntegrationTest {
     assertThat(detail.activity().items().stream().anyMatch(a -> a.message().contains("IN_PROGRESS"))).isTrue();
   }
 
+  @Test
+  void issueListPageRunsAtMostTwoStatements() {
+    AuthResponse auth = registerAndLogin("lister@example.com", "lister");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "LST");
+    for (int i = 0; i < 5; i++) {
+      createIssue(token, projectId);
+    }
+    var listUrl = url("/api/projects/" + projectId + "/issues?size=3&count=none");
+    restTemplate.exchange(listUrl, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), PageResponse.class);
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    ResponseEntity<PageResponse> response = restTemplate.exchange(
+        listUrl,
+        HttpMethod.GET,
+        new HttpEntity<>(authHeaders(token)),
+        PageResponse.class
+    );
+
+    assertThat(response.getBody().items()).hasSize(3);
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void issueDetailRunsAtMostTwoStatements() {
+    AuthResponse auth = registerAndLogin("detail@example.com", "detailer");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "DET");
+    IssueDto issue = createIssue(token, projectId);
+    updateIssueStatus(token, issue.id(), "IN_PROGRESS");
+    getIssueDetail(token, issue.id());
+
+    StatementCounter.STATEMENTS.set(0);
+    IssueDetailDto detail = getIssueDetail(token, issue.id());
+
+    assertThat(detail.issue().tags()).containsExactly("backend");
+    assertThat(detail.description()).isEqualTo("Description");
+    assertThat(detail.activity().items()).isNotEmpty();
+    assertThat(StatementCounter.STATEMENTS.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void issueDetailOfUnassignedIssueHasNoAssignee() {
+    AuthResponse auth = registerAndLogin("unassigned@example.com", "unassigned");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "UNA");
+    IssueDto issue = createIssue(token, projectId);
+
+    IssueDetailDto detail = getIssueDetail(token, issue.id());
+
+    assertThat(detail.issue().ownerUserId()).isNotNull();
+    assertThat(detail.issue().assigneeUserId()).isNull();
+  }
+
+  @Test
+  void timelineMergesCommentsAndActivityWithCursors() {
+    AuthResponse auth = registerAndLogin("timeline@example.com", "timeliner");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "TML");
+    IssueDto issue = createIssue(token, projectId);
+    addComment(token, issue.id(), "First");
+    updateIssueStatus(token, issue.id(), "IN_PROGRESS");
+    addComment(token, issue.id(), "Second");
+
+    PageResponse first = getTimeline(token, issue.id(), "limit=2");
+    assertThat(first.items()).hasSize(2);
+    assertThat(first.hasNext()).isTrue();
+    PageResponse rest = getTimeline(token, issue.id(), "limit=100&cursor=" + first.nextCursor());
+    assertThat(first.items().size() + rest.items().size())
+        .isEqualTo(getTimeline(token, issue.id(), "limit=100").items().size());
+
+    PageResponse none = getTimeline(token, issue.id(), "since=" + first.prevCursor());
+    assertThat(none.items()).isEmpty();
+    addComment(token, issue.id(), "Third");
+    PageResponse fresh = getTimeline(token, issue.id(), "since=" + first.prevCursor());
+    assertThat(fresh.items()).extracting("type").containsExactlyInAnyOrder("COMMENT", "ACTIVITY");
+    assertThat(fresh.nextCursor()).isNotEqualTo(first.prevCursor());
+  }
+
+  @Test
+  void changeFeedReturnsEachChangedIssueOnceAfterTheWatermark() {
+    AuthResponse auth = registerAndLogin("changes@example.com", "changer");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "CHG");
+    IssueDto untouched = createIssue(token, projectId);
+    long watermark = getChanges(token, projectId, "").watermark();
+
+    IssueDto created = createIssue(token, projectId);
+    updateIssueStatus(token, created.id(), "IN_PROGRESS");
+    ProjectChangesDto changes = getChanges(token, projectId, "since=" + watermark);
+    assertThat(changes.issues()).extracting(IssueDto::id).containsExactly(created.id());
+    assertThat(changes.issues().get(0).status()).isEqualTo("IN_PROGRESS");
+    assertThat(changes.watermark()).isGreaterThan(watermark);
+    assertThat(changes.hasMore()).isFalse();
+
+    ProjectChangesDto none = getChanges(token, projectId, "since=" + changes.watermark());
+    assertThat(none.issues()).isEmpty();
+    assertThat(none.watermark()).isEqualTo(changes.watermark());
+
+    ProjectChangesDto all = getChanges(token, projectId, "since=0&limit=1");
+    assertThat(all.memberships()).hasSize(1);
+    assertThat(all.hasMore()).isTrue();
+    assertThat(getChanges(token, projectId, "since=" + all.watermark()).issues())
+        .extracting(IssueDto::id).containsExactly(untouched.id(), created.id());
+  }
+
+  @Test
+  void parallelCreatesGetGapFreeUniqueIssueNumbers() throws Exception {
+    AuthResponse auth = registerAndLogin("numbers@example.com", "numberer");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "NUM");
+    int creates = 2000;
+    ExecutorService clients = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<IssueDto>> futures = new ArrayList<>();
+      for (int i = 0; i < creates; i++) {
+        futures.add(clients.submit(() -> createIssue(token, projectId)));
+      }
+      for (var future : futures) {
+        assertThat(future.get(60, TimeUnit.SECONDS)).isNotNull();
+      }
+    } finally {
+      clients.shutdownNow();
+    }
+
+    List<Integer> numbers = jdbcTemplate.queryForList(
+        "SELECT issue_number FROM issues WHERE project_id = ? ORDER BY issue_number",
+        Integer.class,
+        projectId
+    );
+    assertThat(numbers).containsExactlyElementsOf(IntStream.rangeClosed(1, creates).boxed().toList());
+  }
+
+  @Test
+  void boardReturnsTopIssuesPerStatusWithColumnCursors() {
+    AuthResponse auth = registerAndLogin("board@example.com", "boarder");
+    String token = auth.accessToken();
+    Long projectId = createProject(token, "BRD");
+    for (int i = 0; i < 3; i++) {
+      createIssue(token, projectId);
+    }
+    IssueDto started = createIssue(token, projectId);
+    updateIssueStatus(token, started.id(), "IN_PROGRESS");
+
+    BoardDto board = getBoard(token, projectId, "limit=2");
+    assertThat(board.columns()).extracting(BoardColumnDto::status).containsExactly("OPEN", "IN_PROGRESS", "CLOSED");
+    BoardColumnDto open = board.columns().get(0);
+    assertThat(open.total()).isEqualTo(3);
+    assertThat(open.items()).hasSize(2);
+    assertThat(open.nextCursor()).isNotNull();
+    assertThat(open.items()).extracting(IssueDto::assigneeUserId).containsOnlyNulls();
+    assertThat(board.columns().get(1).items()).extracting(IssueDto::id).containsExactly(started.id());
+    assertThat(board.columns().get(2).total()).isZero();
+
+    BoardDto more = getBoard(token, projectId, "limit=2&cursor=" + open.nextCursor());
+    assertThat(more.columns()).hasSize(1);
+    assertThat(more.columns().get(0).items()).hasSize(1);
+    assertThat(more.columns().get(0).nextCursor()).isNull();
+
+    BoardDto filtered = getBoard(token, projectId, "tag=backend&q=test");
+    assertThat(filtered.columns().get(0).total()).isEqualTo(3);
+  }
+
   private AuthResponse registerAndLogin() {
+    return registerAndLogin("user@example.com", "user1");
+  }
+
+  private AuthResponse registerAndLogin(String email, String username) {
     RegisterRequest register = new RegisterRequest(
-        "user@example.com",
-        "user1",
+        email,
+        username,
         "Password123!",
         "Test",
         "User"
     );
     restTemplate.postForEntity(url("/api/auth/register"), register, AuthResponse.class);
-    LoginRequest login = new LoginRequest("user1", "Password123!");
+    LoginRequest login = new LoginRequest(username, "Password123!");
     ResponseEntity<AuthResponse> response = restTemplate.postForEntity(url("/api/auth/login"), login, AuthResponse.class);
     return response.getBody();
   }
 
   private Long createProject(String token) {
-    CreateProjectRequest request = new CreateProjectRequest("Test Project", "TP");
+    return createProject(token, "TP");
+  }
+
+  private Long createProject(String token, String prefix) {
+    CreateProjectRequest request = new CreateProjectRequest("Test Project", prefix);
     ResponseEntity<com.isstrack.issue_tracker.api.dto.ProjectDto> response = restTemplate.exchange(
         url("/api/projects"),
         HttpMethod.POST,
@@ -149,6 +352,45 @@ class IssueTrackerIntegrationTest {
     return response.getBody();
   }
 
+  private void addComment(String token, Long issueId, String body) {
+    restTemplate.exchange(
+        url("/api/issues/" + issueId + "/comments"),
+        HttpMethod.POST,
+        new HttpEntity<>(new AddCommentRequest(body), authHeaders(token)),
+        Object.class
+    );
+  }
+
+  private PageResponse getTimeline(String token, Long issueId, String query) {
+    ResponseEntity<PageResponse> response = restTemplate.exchange(
+        url("/api/issues/" + issueId + "/timeline?" + query),
+        HttpMethod.GET,
+        new HttpEntity<>(authHeaders(token)),
+        PageResponse.class
+    );
+    return response.getBody();
+  }
+
+  private ProjectChangesDto getChanges(String token, Long projectId, String query) {
+    ResponseEntity<ProjectChangesDto> response = restTemplate.exchange(
+        url("/api/projects/" + projectId + "/changes?" + query),
+        HttpMethod.GET,
+        new HttpEntity<>(authHeaders(token)),
+        ProjectChangesDto.class
+    );
+    return response.getBody();
+  }
+
+  private BoardDto getBoard(String token, Long projectId, String query) {
+    ResponseEntity<BoardDto> response = restTemplate.exchange(
+        url("/api/projects/" + projectId + "/board?" + query),
+        HttpMethod.GET,
+        new HttpEntity<>(authHeaders(token)),
+        BoardDto.class
+    );
+    return response.getBody();
+  }
+
   private HttpHeaders authHeaders(String token) {
     HttpHeaders headers = new HttpHeaders();
     headers.setContentType(MediaType.APPLICATION_JSON);
@@ -160,6 +402,56 @@ class IssueTrackerIntegrationTest {
     return "http://localhost:" + port + path;
   }
 
+  /**
+   * Counts JDBC statements prepared on request threads, which Hibernate statistics miss for
+   * JdbcTemplate queries. Background listeners and schedulers are left out of the count.
+   */
+  @TestConfiguration
+  static class StatementCounter {
+    static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+          }
+          return Proxy.newProxyInstance(
+              DataSource.class.getClassLoader(),
+              new Class<?>[] {DataSource.class},
+              (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? counting(connection) : result;
+              }
+          );
+        }
+      };
+    }
+
+    private static Connection counting(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(
+          Connection.class.getClassLoader(),
+          new Class<?>[] {Connection.class},
+          (proxy, method, args) -> {
+            if (method.getName().startsWith("prepare") && Thread.currentThread().getName().startsWith("http-")) {
+              STATEMENTS.incrementAndGet();
+            }
+            return invoke(connection, method, args);
+          }
+      );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+
   private RestTemplate patchRestTemplate() {
     return new RestTemplateBuilder()
         .requestFactory(
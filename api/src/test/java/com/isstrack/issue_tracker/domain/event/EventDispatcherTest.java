@@ -0,0 +1,144 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class EventDispatcherTest {
+  @Test
+  void preservesOrderPerTopicAcrossWorkers() throws Exception {
+    SimpMessagingTemplate template = Mockito.mock(SimpMessagingTemplate.class);
+    Map<String, List<Object>> delivered = new ConcurrentHashMap<>();
+    int projects = 8;
+    int perProject = 200;
+    CountDownLatch done = new CountDownLatch(projects * perProject);
+    doAnswer(invocation -> {
+      delivered.computeIfAbsent(invocation.getArgument(0), key -> Collections.synchronizedList(new ArrayList<>()))
+          .add(invocation.getArgument(1));
+      done.countDown();
+      return null;
+    }).when(template).convertAndSend(anyString(), any(Object.class));
+    var dispatcher = new EventDispatcher(new WebSocketBroadcaster(template), new SimpleMeterRegistry(), 4, 64, "BLOCK");
+
+    for (int i = 0; i < perProject; i++) {
+      for (long project = 1; project <= projects; project++) {
+        dispatcher.onEvent(created(project, i));
+      }
+    }
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    for (long project = 1; project <= projects; project++) {
+      var numbers = delivered.get("/topic/projects." + project).stream()
+          .map(payload -> ((IssueDto) payload).issueNumber())
+          .toList();
+      assertThat(numbers).isSorted().hasSize(perProject);
+    }
+    dispatcher.stop();
+  }
+
+  @Test
+  void dropOldestDiscardsQueuedEventWhenFull() throws Exception {
+    var recorder = new BlockingRecorder();
+    var registry = new SimpleMeterRegistry();
+    var dispatcher = new EventDispatcher(new WebSocketBroadcaster(recorder.template), registry, 1, 2, "DROP_OLDEST");
+
+    dispatcher.onEvent(created(1L, 1));
+    assertThat(recorder.firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    dispatcher.onEvent(created(1L, 2));
+    dispatcher.onEvent(created(1L, 3));
+    dispatcher.onEvent(created(1L, 4));
+    assertThat(dispatcher.queueDepth()).isEqualTo(2);
+    recorder.release.countDown();
+
+    assertThat(recorder.awaitNumbers(3)).containsExactly(1, 3, 4);
+    assertThat(registry.get("events.dispatch.dropped").counter().count()).isEqualTo(1.0);
+    dispatcher.stop();
+  }
+
+  @Test
+  void coalesceReplacesQueuedUpdateOfSameIssue() throws Exception {
+    var recorder = new BlockingRecorder();
+    var registry = new SimpleMeterRegistry();
+    var dispatcher = new EventDispatcher(new WebSocketBroadcaster(recorder.template), registry, 1, 2, "COALESCE");
+
+    dispatcher.onEvent(created(1L, 1));
+    assertThat(recorder.firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    dispatcher.onEvent(updated(1L, 5L, 2));
+    dispatcher.onEvent(created(1L, 3));
+    dispatcher.onEvent(updated(1L, 5L, 4));
+    recorder.release.countDown();
+
+    assertThat(recorder.awaitNumbers(3)).containsExactly(1, 4, 3);
+    assertThat(registry.get("events.dispatch.coalesced").counter().count()).isEqualTo(1.0);
+    dispatcher.stop();
+  }
+
+  private static IssueCreatedEvent created(long projectId, int issueNumber) {
+    return new IssueCreatedEvent(projectId, (long) issueNumber, issue(projectId, issueNumber, issueNumber), Instant.now());
+  }
+
+  private static IssueUpdatedEvent updated(long projectId, long issueId, int issueNumber) {
+    return new IssueUpdatedEvent(projectId, issueId, issue(projectId, issueId, issueNumber), Instant.now());
+  }
+
+  private static IssueDto issue(long projectId, long issueId, int issueNumber) {
+    return new IssueDto(
+        issueId,
+        projectId,
+        issueNumber,
+        "PROJ-" + issueNumber,
+        "Title",
+        "OPEN",
+        "LOW",
+        2L,
+        null,
+        List.of(),
+        Instant.now()
+    );
+  }
+
+  private static final class BlockingRecorder {
+    private final SimpMessagingTemplate template = Mockito.mock(SimpMessagingTemplate.class);
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Integer> numbers = Collections.synchronizedList(new ArrayList<>());
+
+    private BlockingRecorder() {
+      doAnswer(invocation -> {
+        firstSendStarted.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        numbers.add(((IssueDto) invocation.getArgument(1)).issueNumber());
+        return null;
+      }).when(template).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private List<Integer> awaitNumbers(int expected) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + 5000;
+      while (numbers.size() < expected && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      return List.copyOf(numbers);
+    }
+  }
+}
+
@@ -7,6 +7,7 @@ package com.isstrack.issue_tracker.domain.event;
 
 import com.isstrack.issue_tracker.api.dto.ActivityDto;
 import com.isstrack.issue_tracker.api.dto.CommentDto;
+import com.isstrack.issue_tracker.api.dto.IssueBatchDto;
 import com.isstrack.issue_tracker.api.dto.IssueDto;
 import com.isstrack.issue_tracker.api.dto.MembershipDto;
 import com.isstrack.issue_tracker.api.dto.NotificationDto;
@@ -39,6 +40,22 @@ class WebSocketBroadcasterTest {
     broadcaster.onEvent(new IssueCreatedEvent(10L, 1L, issueDto, Instant.now()));
     Mockito.verify(template).convertAndSend("/topic/projects.10", issueDto);
 
+    IssueDto secondIssueDto = new IssueDto(
+        3L,
+        10L,
+        43,
+        "PROJ-43",
+        "Second",
+        "OPEN",
+        "LOW",
+        2L,
+        null,
+        List.of(),
+        Instant.now()
+    );
+    broadcaster.onEvent(new IssuesBulkCreatedEvent(10L, List.of(issueDto, secondIssueDto), Instant.now()));
+    Mockito.verify(template).convertAndSend("/topic/projects.10", new IssueBatchDto(10L, 2, 42, 43));
+
     CommentDto commentDto = new CommentDto(5L, 1L, 2L, "Hi", Instant.now());
     broadcaster.onEvent(new CommentAddedEvent(1L, commentDto, Instant.now()));
     Mockito.verify(template).convertAndSend("/topic/issues.1", commentDto);
@@ -0,0 +1,80 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-request JWT authentication cost. {@code threeParses} reproduces the previous filter:
+ * validate, extract user id and extract role, each with a freshly built parser.
+ * {@code singleParse} alternates two tokens through a one-entry cache, so every call misses.
+ * Run the {@code main} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+  private SecretKey key;
+  private JwtService missing;
+  private JwtService cached;
+  private String token;
+  private String otherToken;
+  private boolean flip;
+
+  @Setup
+  public void setUp() {
+    key = Keys.hmacShaKeyFor(JwtServiceTest.SECRET.getBytes(StandardCharsets.UTF_8));
+    missing = new JwtService(JwtServiceTest.SECRET, "issue-tracker", 60, 1);
+    cached = new JwtService(JwtServiceTest.SECRET, "issue-tracker", 60, 10000);
+    token = cached.generateToken(JwtServiceTest.user(42L));
+    otherToken = cached.generateToken(JwtServiceTest.user(43L));
+    cached.authenticate(token);
+  }
+
+  @Benchmark
+  public Object threeParses() {
+    Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+    var claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    var role = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("role", String.class);
+    return role + claims.getSubject();
+  }
+
+  @Benchmark
+  public Object singleParse() {
+    flip = !flip;
+    return missing.authenticate(flip ? token : otherToken);
+  }
+
+  @Benchmark
+  public Object cachedLookup() {
+    return cached.authenticate(token);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JwtAuthBenchmark.class.getSimpleName()).build()).run();
+  }
+}
+
@@ -0,0 +1,52 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.isstrack.issue_tracker.persistence.entity.RoleEntity;
+import com.isstrack.issue_tracker.persistence.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+  static final String SECRET = "c8f9e3a1b5d74c2e9f3a8b6d1e4f7c9a2b5d6e8f1c3a7b9d4e6f2a1c8b3d5e7";
+
+  @Test
+  void authenticateParsesOnceAndReusesVerifiedPrincipal() {
+    JwtService service = new JwtService(SECRET, "issue-tracker", 60, 100);
+    String token = service.generateToken(user(42L));
+
+    var first = service.authenticate(token).orElseThrow();
+    assertThat(first.userId()).isEqualTo(42L);
+    assertThat(first.role()).isEqualTo("USER");
+    assertThat(first.username()).isEqualTo("user42");
+    assertThat(service.authenticate(token)).containsSame(first);
+  }
+
+  @Test
+  void rejectsTamperedAndExpiredTokens() {
+    JwtService service = new JwtService(SECRET, "issue-tracker", 60, 100);
+    String token = service.generateToken(user(42L));
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    assertThat(service.authenticate(tampered)).isEmpty();
+    assertThat(service.authenticate("not-a-jwt")).isEmpty();
+
+    JwtService expiring = new JwtService(SECRET, "issue-tracker", -1, 100);
+    assertThat(expiring.authenticate(expiring.generateToken(user(42L)))).isEmpty();
+  }
+
+  static UserEntity user(long id) {
+    var role = new RoleEntity();
+    role.setRoleId((short) 2);
+    role.setName("USER");
+    var user = new UserEntity();
+    user.setId(id);
+    user.setUsername("user" + id);
+    user.setRole(role);
+    return user;
+  }
+}
+
@@ -0,0 +1,107 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.domain.event.ActivityBatchLoggedEvent;
+import com.isstrack.issue_tracker.domain.event.ActivityLoggedEvent;
+import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
+import com.isstrack.issue_tracker.persistence.entity.UserEntity;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository.ActivityRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository.SavedActivityRow;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class ActivityServiceTest {
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void entriesLoggedInOneTransactionAreWrittenAndPublishedTogether() {
+    IssueBatchRepository batchRepository = Mockito.mock(IssueBatchRepository.class);
+    ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
+    ActivityService service = new ActivityService(batchRepository, publisher);
+    when(batchRepository.insertActivityReturning(anyList())).thenAnswer(invocation -> {
+      List<ActivityRow> rows = invocation.getArgument(0);
+      List<SavedActivityRow> saved = new ArrayList<>();
+      for (int i = 0; i < rows.size(); i++) {
+        var row = rows.get(i);
+        saved.add(new SavedActivityRow(i + 1, row.issueId(), row.actorUserId(), row.message(), row.createdAt()));
+      }
+      return saved;
+    });
+
+    var issue = new IssueEntity();
+    issue.setId(1L);
+    var actor = new UserEntity();
+    actor.setId(2L);
+
+    TransactionSynchronizationManager.initSynchronization();
+    service.logActivity(issue, actor, "Title updated");
+    service.logActivity(issue, actor, "Status changed to CLOSED");
+    service.logActivity(issue, actor, "Tags updated");
+    verifyNoInteractions(batchRepository, publisher);
+
+    TransactionSynchronizationUtils.triggerBeforeCommit(false);
+    TransactionSynchronizationUtils.invokeAfterCompletion(
+        TransactionSynchronizationManager.getSynchronizations(),
+        TransactionSynchronization.STATUS_COMMITTED
+    );
+
+    verify(batchRepository, times(1)).insertActivityReturning(anyList());
+    ArgumentCaptor<ActivityBatchLoggedEvent> captor = ArgumentCaptor.forClass(ActivityBatchLoggedEvent.class);
+    verify(publisher, times(1)).publishEvent(captor.capture());
+    assertThat(captor.getValue().issueId()).isEqualTo(1L);
+    assertThat(captor.getValue().payload()).extracting("message")
+        .containsExactly("Title updated", "Status changed to CLOSED", "Tags updated");
+    assertThat(TransactionSynchronizationManager.hasResource(service)).isFalse();
+  }
+
+  @Test
+  void entryLoggedOutsideATransactionIsWrittenAndPublishedImmediately() {
+    IssueBatchRepository batchRepository = Mockito.mock(IssueBatchRepository.class);
+    ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
+    ActivityService service = new ActivityService(batchRepository, publisher);
+    when(batchRepository.insertActivityReturning(anyList())).thenAnswer(invocation -> {
+      List<ActivityRow> rows = invocation.getArgument(0);
+      var row = rows.get(0);
+      return List.of(new SavedActivityRow(1, row.issueId(), row.actorUserId(), row.message(), row.createdAt()));
+    });
+
+    var issue = new IssueEntity();
+    issue.setId(1L);
+    var actor = new UserEntity();
+    actor.setId(2L);
+
+    service.logActivity(issue, actor, "Comment added");
+
+    verify(batchRepository, times(1)).insertActivityReturning(anyList());
+    ArgumentCaptor<ActivityLoggedEvent> captor = ArgumentCaptor.forClass(ActivityLoggedEvent.class);
+    verify(publisher, times(1)).publishEvent(captor.capture());
+    assertThat(captor.getValue().issueId()).isEqualTo(1L);
+    assertThat(TransactionSynchronizationManager.hasResource(service)).isFalse();
+  }
+}
+
@@ -0,0 +1,48 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.isstrack.issue_tracker.api.dto.CommentDto;
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.MembershipDto;
+import com.isstrack.issue_tracker.domain.event.CommentAddedEvent;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.event.MemberAddedEvent;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChangeTrackerTest {
+  @Test
+  void tagsChangeOnlyWhenTheirScopeChanges() {
+    ChangeTracker tracker = new ChangeTracker();
+    var project = tracker.projectTag(10L);
+    var otherProject = tracker.projectTag(11L);
+    var issue = tracker.issueTag(1L, 3);
+    var user = tracker.userTag(7L);
+    assertThat(tracker.projectTag(10L)).isEqualTo(project).startsWith("\"").endsWith("\"");
+
+    var dto = new IssueDto(1L, 10L, 1, "PROJ-001", "Title", "OPEN", "LOW", 2L, null, List.of(), Instant.now());
+    tracker.onEvent(new IssueUpdatedEvent(10L, 1L, dto, Instant.now()));
+    assertThat(tracker.projectTag(10L)).isNotEqualTo(project);
+    assertThat(tracker.projectTag(11L)).isEqualTo(otherProject);
+    assertThat(tracker.issueTag(1L, 3)).isNotEqualTo(issue);
+    assertThat(tracker.issueTag(1L, 4)).isNotEqualTo(tracker.issueTag(1L, 3));
+
+    issue = tracker.issueTag(1L, 3);
+    project = tracker.projectTag(10L);
+    tracker.onEvent(new CommentAddedEvent(1L, new CommentDto(5L, 1L, 2L, "Hi", Instant.now()), Instant.now()));
+    assertThat(tracker.issueTag(1L, 3)).isNotEqualTo(issue);
+    assertThat(tracker.projectTag(10L)).isEqualTo(project);
+
+    var membership = new MembershipDto(8L, 10L, 7L, null, "MEMBER", "ACTIVE", Instant.now());
+    tracker.onEvent(new MemberAddedEvent(10L, membership, Instant.now()));
+    assertThat(tracker.userTag(7L)).isNotEqualTo(user);
+  }
+}
+
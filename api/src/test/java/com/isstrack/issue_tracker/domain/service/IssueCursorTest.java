@@ -0,0 +1,40 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class IssueCursorTest {
+  @Test
+  void roundTripsTitlesContainingTheSeparator() {
+    var issue = new IssueListRow(42L, 1L, "ISS", 42, "Crash: login fails", (short) 1, (short) 1, 1L, null, null, null);
+    var order = Sort.Order.asc("title");
+
+    var decoded = IssueCursor.decode(IssueCursor.at(issue, order, true).encode());
+
+    assertThat(decoded).isEqualTo(new IssueCursor(true, "title", Sort.Direction.ASC, 42L, "Crash: login fails"));
+    assertThat(decoded.matches(order)).isTrue();
+    assertThat(decoded.matches(Sort.Order.desc("title"))).isFalse();
+  }
+
+  @Test
+  void rejectsTamperedCursors() {
+    var badTimestamp = Base64.getUrlEncoder()
+        .encodeToString("n:updatedAt:DESC:7:yesterday".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> IssueCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> IssueCursor.decode(badTimestamp)).isInstanceOf(BadRequestException.class);
+  }
+}
+
@@ -0,0 +1,171 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.DetailRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.EntryPage;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.EntryRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.IssueHead;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.PageSlice;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.TagRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Wall-clock cost of assembling an issue detail when every statement pays a network round trip
+ * ({@code rttMicros}) plus its own execution time ({@code partMicros} per part). The repository
+ * is simulated: {@code singleStatement} pays one round trip and runs the four parts back to back
+ * on the server, {@code parallelParts} pays four round trips side by side. Point it at your
+ * measured database RTT to see where the crossover lies. Run the {@code main} method from the
+ * test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueDetailBenchmark {
+  @Param({"200", "1000", "5000"})
+  public long rttMicros;
+
+  @Param({"300"})
+  public long partMicros;
+
+  private ParallelReads parallelReads;
+  private IssueDetailService single;
+  private IssueDetailService parallel;
+
+  @Setup
+  public void setUp() {
+    var repository = new SimulatedRepository(rttMicros, partMicros);
+    parallelReads = new ParallelReads(4, 4, 10_000, 8);
+    single = service(repository, false);
+    parallel = service(repository, true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    parallelReads.stop();
+  }
+
+  @Benchmark
+  public Object singleStatement() {
+    return single.getIssueDetail(1L, 9L, PageRequest.of(0, 20), PageRequest.of(0, 20));
+  }
+
+  @Benchmark
+  public Object parallelParts() {
+    return parallel.getIssueDetail(1L, 9L, PageRequest.of(0, 20), PageRequest.of(0, 20));
+  }
+
+  private IssueDetailService service(IssueDetailRepository repository, boolean parallelMode) {
+    var tagService = Mockito.mock(TagService.class);
+    when(tagService.canonicalName(anyLong(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+    return new IssueDetailService(
+        Mockito.mock(IssueRepository.class),
+        repository,
+        Mockito.mock(ProjectAccessService.class),
+        Mockito.mock(ReferenceDataRegistry.class),
+        tagService,
+        new ChangeTracker(),
+        parallelReads,
+        parallelMode
+    );
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(IssueDetailBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  private static final class SimulatedRepository extends IssueDetailRepository {
+    private final long rttNanos;
+    private final long partNanos;
+    private final DetailRow detail;
+
+    SimulatedRepository(long rttMicros, long partMicros) {
+      super(new JdbcTemplate(), null, 10_000);
+      this.rttNanos = TimeUnit.MICROSECONDS.toNanos(rttMicros);
+      this.partNanos = TimeUnit.MICROSECONDS.toNanos(partMicros);
+      var now = Instant.now();
+      var issue = new IssueListRow(9L, 5L, "BEN", 1, "Benchmark", (short) 1, (short) 1, 1L, null, now, now);
+      List<EntryRow> entries = new ArrayList<>();
+      for (long id = 1; id <= 20; id++) {
+        entries.add(new EntryRow(id, 1L, "Entry " + id, now));
+      }
+      this.detail = new DetailRow(
+          new IssueHead(issue, "Description", true),
+          List.of(new TagRow(1L, "backend"), new TagRow(2L, "urgent")),
+          new EntryPage(40, entries),
+          new EntryPage(40, entries)
+      );
+    }
+
+    @Override
+    public Optional<DetailRow> findDetail(long userId, long issueId, PageSlice comments, PageSlice activity) {
+      roundTrip(4);
+      return Optional.of(detail);
+    }
+
+    @Override
+    public Optional<IssueHead> findHead(long userId, long issueId) {
+      roundTrip(1);
+      return Optional.of(detail.head());
+    }
+
+    @Override
+    public List<TagRow> findTags(long issueId) {
+      roundTrip(1);
+      return detail.tags();
+    }
+
+    @Override
+    public EntryPage findComments(long issueId, PageSlice slice) {
+      roundTrip(1);
+      return detail.comments();
+    }
+
+    @Override
+    public EntryPage findActivity(long issueId, PageSlice slice) {
+      roundTrip(1);
+      return detail.activity();
+    }
+
+    private void roundTrip(int parts) {
+      LockSupport.parkNanos(rttNanos + parts * partNanos);
+    }
+  }
+}
+
@@ -0,0 +1,136 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.error.ForbiddenException;
+import com.isstrack.issue_tracker.api.error.NotFoundException;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.DetailRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.EntryPage;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.EntryRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.IssueHead;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.PageSlice;
+import com.isstrack.issue_tracker.persistence.repo.IssueDetailRepository.TagRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+
+class IssueDetailServiceTest {
+  private final IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+  private final IssueDetailRepository detailRepository = Mockito.mock(IssueDetailRepository.class);
+  private final ProjectAccessService accessService = Mockito.mock(ProjectAccessService.class);
+  private final ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+  private final TagService tagService = Mockito.mock(TagService.class);
+  private final ParallelReads parallelReads = new ParallelReads(2, 2, 1000, 5);
+  private final IssueDetailService service = service(false);
+
+  @Test
+  void detailIsAssembledFromOneRepositoryCall() {
+    var detail = detail();
+    when(detailRepository.findDetail(1L, 9L, new PageSlice(10, 20), new PageSlice(20, 0)))
+        .thenReturn(Optional.of(detail));
+    stubNames();
+
+    var dto = service.getIssueDetail(1L, 9L, PageRequest.of(2, 10), PageRequest.of(0, 20));
+
+    verify(detailRepository, times(1)).findDetail(eq(1L), eq(9L), Mockito.any(), Mockito.any());
+    verifyNoInteractions(issueRepository, accessService);
+    assertThat(dto.issue().issueKey()).isEqualTo("DET-003");
+    assertThat(dto.issue().status()).isEqualTo("OPEN");
+    assertThat(dto.issue().tags()).containsExactly("backend", "urgent");
+    assertThat(dto.description()).isEqualTo("Steps to reproduce");
+    assertThat(dto.comments().items()).extracting("body").containsExactly("Looking into it");
+    assertThat(dto.comments().page()).isEqualTo(2);
+    assertThat(dto.comments().totalElements()).isEqualTo(25);
+    assertThat(dto.comments().totalPages()).isEqualTo(3);
+    assertThat(dto.comments().hasNext()).isFalse();
+    assertThat(dto.activity().items()).extracting("message").containsExactly("Issue created");
+    assertThat(dto.activity().items().get(0).issueId()).isEqualTo(9L);
+  }
+
+  @Test
+  void nonMemberIsRejectedFromTheSameRow() {
+    var head = new IssueHead(detail().head().issue(), null, false);
+    var empty = new EntryPage(0, List.of());
+    when(detailRepository.findDetail(anyLong(), anyLong(), Mockito.any(), Mockito.any()))
+        .thenReturn(Optional.of(new DetailRow(head, List.of(), empty, empty)));
+
+    assertThatThrownBy(() -> service.getIssueDetail(2L, 9L, PageRequest.of(0, 20), PageRequest.of(0, 20)))
+        .isInstanceOf(ForbiddenException.class);
+  }
+
+  @Test
+  void parallelModeAssemblesTheSameDetailFromSeparateQueries() {
+    var detail = detail();
+    when(detailRepository.findHead(1L, 9L)).thenReturn(Optional.of(detail.head()));
+    when(detailRepository.findTags(9L)).thenReturn(detail.tags());
+    when(detailRepository.findComments(9L, new PageSlice(10, 20))).thenReturn(detail.comments());
+    when(detailRepository.findActivity(9L, new PageSlice(20, 0))).thenReturn(detail.activity());
+    stubNames();
+
+    var dto = service(true).getIssueDetail(1L, 9L, PageRequest.of(2, 10), PageRequest.of(0, 20));
+
+    verify(detailRepository, Mockito.never()).findDetail(anyLong(), anyLong(), Mockito.any(), Mockito.any());
+    assertThat(dto.issue().tags()).containsExactly("backend", "urgent");
+    assertThat(dto.comments().totalElements()).isEqualTo(25);
+    assertThat(dto.activity().items()).extracting("message").containsExactly("Issue created");
+  }
+
+  @Test
+  void missingIssueIsNotFound() {
+    when(detailRepository.findDetail(anyLong(), anyLong(), Mockito.any(), Mockito.any()))
+        .thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.getIssueDetail(1L, 404L, PageRequest.of(0, 20), PageRequest.of(0, 20)))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  private IssueDetailService service(boolean parallel) {
+    return new IssueDetailService(
+        issueRepository,
+        detailRepository,
+        accessService,
+        referenceData,
+        tagService,
+        new ChangeTracker(),
+        parallelReads,
+        parallel
+    );
+  }
+
+  private void stubNames() {
+    when(tagService.canonicalName(anyLong(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+    when(referenceData.statusName((short) 1)).thenReturn("OPEN");
+    when(referenceData.priorityName((short) 2)).thenReturn("HIGH");
+  }
+
+  private static DetailRow detail() {
+    var now = Instant.parse("2024-05-01T10:15:30.123456Z");
+    var issue = new IssueListRow(9L, 5L, "DET", 3, "Broken login", (short) 1, (short) 2, 1L, null, now, now);
+    return new DetailRow(
+        new IssueHead(issue, "Steps to reproduce", true),
+        List.of(new TagRow(4L, "backend"), new TagRow(7L, "urgent")),
+        new EntryPage(25, List.of(new EntryRow(31L, 2L, "Looking into it", now))),
+        new EntryPage(1, List.of(new EntryRow(40L, 1L, "Issue created", now)))
+    );
+  }
+}
+
@@ -0,0 +1,116 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.domain.service.IssueQueryService.FilterIds;
+import com.isstrack.issue_tracker.persistence.repo.IssueExportRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueExportRepository.ExportRow;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class IssueExportServiceTest {
+  private static final IssueFilter NO_FILTER =
+      new IssueFilter(null, null, null, false, null, null, null, null, null, null, null, null, null);
+
+  private final IssueExportRepository exportRepository = Mockito.mock(IssueExportRepository.class);
+  private final IssueQueryService issueQueryService = Mockito.mock(IssueQueryService.class);
+  private final ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+  private final IssueExportService service = new IssueExportService(
+      exportRepository,
+      issueQueryService,
+      Mockito.mock(ProjectAccessService.class),
+      referenceData,
+      new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+      Mockito.mock(PlatformTransactionManager.class),
+      Mockito.mock(AsyncTaskExecutor.class),
+      120
+  );
+
+  @BeforeEach
+  void setUp() {
+    when(referenceData.statusName((short) 1)).thenReturn("OPEN");
+    when(referenceData.priorityName((short) 2)).thenReturn("HIGH");
+  }
+
+  @Test
+  void ndjsonWritesOneObjectPerLine() throws Exception {
+    when(issueQueryService.resolve(NO_FILTER)).thenReturn(Optional.of(new FilterIds(List.of(), List.of(), List.of())));
+    streamRows(row(1L, "Login fails", List.of("backend", "bug")), row(2L, "Crash", List.of()));
+
+    var lines = export(ExportFormat.NDJSON).split("\n");
+
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{\"id\":1,\"issueKey\":\"ISS-001\",\"title\":\"Login fails\"")
+        .contains("\"status\":\"OPEN\"", "\"tags\":[\"backend\",\"bug\"]", "\"createdAt\":\"2024-01-01T00:00:00Z\"");
+    assertThat(lines[1]).contains("\"id\":2", "\"tags\":[]");
+  }
+
+  @Test
+  void csvQuotesSpecialCellsAndDefusesFormulas() throws Exception {
+    when(issueQueryService.resolve(NO_FILTER)).thenReturn(Optional.of(new FilterIds(List.of(), List.of(), List.of())));
+    streamRows(
+        row(1L, "Say \"hi\", then crash", List.of("a", "b")),
+        row(2L, "=SUM(A1:A2)", List.of()),
+        row(3L, "\t=1+1", List.of())
+    );
+
+    var lines = export(ExportFormat.CSV).split("\r\n");
+
+    assertThat(lines[0]).startsWith("id,key,title,");
+    assertThat(lines[1]).isEqualTo("1,ISS-001,\"Say \"\"hi\"\", then crash\",,OPEN,HIGH,7,,a;b,2024-01-01T00:00:00Z,2024-01-01T00:00:00Z,");
+    assertThat(lines[2]).startsWith("2,ISS-002,'=SUM(A1:A2),");
+    assertThat(lines[3]).startsWith("3,ISS-003,'\t=1+1,");
+  }
+
+  @Test
+  void filterThatCannotMatchSkipsTheQuery() throws Exception {
+    when(issueQueryService.resolve(NO_FILTER)).thenReturn(Optional.empty());
+
+    assertThat(export(ExportFormat.CSV)).startsWith("id,key,title,").doesNotContain("ISS-");
+    verifyNoInteractions(exportRepository);
+  }
+
+  private String export(ExportFormat format) throws Exception {
+    var out = new ByteArrayOutputStream();
+    service.exportIssues(1L, 5L, NO_FILTER, format).writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void streamRows(ExportRow... rows) {
+    doAnswer(invocation -> {
+      Consumer<ExportRow> consumer = invocation.getArgument(1);
+      for (var row : rows) {
+        consumer.accept(row);
+      }
+      return null;
+    }).when(exportRepository).stream(any(), any(Consumer.class));
+  }
+
+  private static ExportRow row(long id, String title, List<String> tags) {
+    var at = Instant.parse("2024-01-01T00:00:00Z");
+    return new ExportRow(id, "ISS", (int) id, title, null, (short) 1, (short) 2, 7L, null, at, at, null, tags);
+  }
+}
+
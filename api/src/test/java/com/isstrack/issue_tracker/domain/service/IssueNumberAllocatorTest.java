@@ -0,0 +1,71 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class IssueNumberAllocatorTest {
+  @Test
+  void parallelAllocationsAreGapFreeAndCollisionFree() throws Exception {
+    JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    AtomicLong sequence = new AtomicLong();
+    AtomicInteger roundTrips = new AtomicInteger();
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("issue_number_seq_7"), Mockito.anyInt()))
+        .thenAnswer(invocation -> {
+          roundTrips.incrementAndGet();
+          int count = invocation.getArgument(3);
+          Thread.sleep(2);
+          List<Long> values = new ArrayList<>();
+          for (int i = 0; i < count; i++) {
+            values.add(sequence.incrementAndGet());
+          }
+          return values;
+        });
+
+    IssueNumberAllocator allocator = new IssueNumberAllocator(jdbcTemplate, 64);
+    int threads = 32;
+    int creates = 4000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    Set<Integer> numbers = ConcurrentHashMap.newKeySet();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < creates; i++) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        assertThat(numbers.add(allocator.nextNumber(7L))).isTrue();
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertThat(numbers).hasSize(creates);
+    assertThat(numbers.stream().mapToInt(Integer::intValue).min().orElseThrow()).isEqualTo(1);
+    assertThat(numbers.stream().mapToInt(Integer::intValue).max().orElseThrow()).isEqualTo(creates);
+    assertThat(roundTrips.get()).isLessThan(creates);
+  }
+}
+
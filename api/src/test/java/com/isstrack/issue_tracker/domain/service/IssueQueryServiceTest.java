@@ -0,0 +1,250 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.domain.model.IssueFilter.TagMatch;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.BoardQuery;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.BoardRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueBoardRepository.ColumnStart;
+import com.isstrack.issue_tracker.persistence.repo.IssueListRepository.IssueListRow;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository.SearchFilter;
+import com.isstrack.issue_tracker.persistence.repo.IssueSearchRepository.SearchHit;
+import com.isstrack.issue_tracker.persistence.repo.IssueTagRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class IssueQueryServiceTest {
+  @Test
+  void searchKeepsRankOrderAndEscapesSnippets() {
+    IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+    IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    IssueSearchRepository searchRepository = Mockito.mock(IssueSearchRepository.class);
+    IssueQueryService service = new IssueQueryService(
+        issueRepository,
+        issueTagRepository,
+        Mockito.mock(ProjectAccessService.class),
+        referenceData,
+        Mockito.mock(TagService.class),
+        Mockito.mock(ChangeTracker.class),
+        new PageCounter(16, 60),
+        searchRepository,
+        Mockito.mock(IssueTitleIndex.class),
+        Mockito.mock(IssueBoardRepository.class)
+    );
+    when(referenceData.statusId("OPEN")).thenReturn(Optional.of((short) 1));
+    when(searchRepository.search(any(), eq(0L), eq(3))).thenReturn(List.of(
+        new SearchHit(8L, 0.9, "login \u0002crash\u0003 in <script>"),
+        new SearchHit(3L, 0.4, "\u0002crash\u0003 on logout")
+    ));
+    when(issueRepository.findListRows(any(), any(), anyInt())).thenReturn(List.of(row(3L), row(8L)));
+
+    var filter = new IssueFilter(
+        List.of("OPEN"), null, null, false, null, null, null, null, null, null, null, null, null
+    );
+    var result = service.searchIssues(1L, 5L, "crash", filter, PageRequest.of(0, 2), CountMode.NONE);
+
+    assertThat(result.items()).extracting(item -> item.issue().id()).containsExactly(8L, 3L);
+    assertThat(result.items().get(0).snippet()).isEqualTo("login <mark>crash</mark> in &lt;script&gt;");
+    assertThat(result.hasNext()).isFalse();
+  }
+
+  @Test
+  void searchResolvesFilterNamesAndShortCircuitsAnUnknownRequiredTag() {
+    IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    TagService tagService = Mockito.mock(TagService.class);
+    IssueSearchRepository searchRepository = Mockito.mock(IssueSearchRepository.class);
+    IssueQueryService service = new IssueQueryService(
+        issueRepository,
+        Mockito.mock(IssueTagRepository.class),
+        Mockito.mock(ProjectAccessService.class),
+        referenceData,
+        tagService,
+        Mockito.mock(ChangeTracker.class),
+        new PageCounter(16, 60),
+        searchRepository,
+        Mockito.mock(IssueTitleIndex.class),
+        Mockito.mock(IssueBoardRepository.class)
+    );
+    when(referenceData.statusId("OPEN")).thenReturn(Optional.of((short) 1));
+    when(referenceData.statusId("IN_PROGRESS")).thenReturn(Optional.of((short) 2));
+    when(tagService.normalize(anyList())).thenReturn(Set.of("backend", "urgent"));
+    when(tagService.lookupIds(anyList())).thenReturn(Map.of("backend", 7L));
+    when(searchRepository.search(any(), eq(0L), eq(21))).thenReturn(List.of());
+
+    var anyTag = new IssueFilter(
+        List.of("OPEN", "IN_PROGRESS"), null, null, true, List.of("backend", "urgent"), TagMatch.ANY,
+        null, null, null, null, null, null, null
+    );
+    service.searchIssues(1L, 5L, "crash", anyTag, PageRequest.of(0, 20), CountMode.NONE);
+    var captor = ArgumentCaptor.forClass(SearchFilter.class);
+    verify(searchRepository).search(captor.capture(), eq(0L), eq(21));
+    assertThat(captor.getValue().statusIds()).containsExactly((short) 1, (short) 2);
+    assertThat(captor.getValue().tagIds()).containsExactly(7L);
+
+    var allTags = new IssueFilter(
+        null, null, null, false, List.of("backend", "urgent"), TagMatch.ALL,
+        null, null, null, null, null, null, null
+    );
+    var result = service.searchIssues(1L, 5L, "crash", allTags, PageRequest.of(0, 20), CountMode.NONE);
+    assertThat(result.items()).isEmpty();
+    verify(searchRepository, times(1)).search(any(), anyLong(), anyInt());
+  }
+
+  @Test
+  void listPageRunsOneRowQueryAndOneTagQuery() {
+    IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+    IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
+    TagService tagService = Mockito.mock(TagService.class);
+    IssueQueryService service = new IssueQueryService(
+        issueRepository,
+        issueTagRepository,
+        Mockito.mock(ProjectAccessService.class),
+        Mockito.mock(ReferenceDataRegistry.class),
+        tagService,
+        Mockito.mock(ChangeTracker.class),
+        new PageCounter(16, 60),
+        Mockito.mock(IssueSearchRepository.class),
+        Mockito.mock(IssueTitleIndex.class),
+        Mockito.mock(IssueBoardRepository.class)
+    );
+    var pageable = PageRequest.of(0, 2);
+    when(issueRepository.findListSlice(any(), eq(pageable)))
+        .thenReturn(new SliceImpl<>(List.of(row(1L), row(2L)), pageable, true));
+    when(issueTagRepository.findIssueTagsByIssueIds(List.of(1L, 2L)))
+        .thenReturn(List.<Object[]>of(new Object[] {1L, "backend", 7L}));
+    when(tagService.canonicalName(7L, "backend")).thenReturn("backend");
+
+    var page = service.listIssues(1L, 5L, new IssueFilter(
+        null, null, null, false, null, null, null, null, null, null, null, null, null
+    ), pageable, CountMode.NONE);
+
+    assertThat(page.items()).extracting(IssueDto::issueKey).containsExactly("ISS-001", "ISS-002");
+    assertThat(page.items().get(0).tags()).containsExactly("backend");
+    verify(issueRepository).findListSlice(any(), eq(pageable));
+    verify(issueTagRepository).findIssueTagsByIssueIds(List.of(1L, 2L));
+    verifyNoMoreInteractions(issueRepository, issueTagRepository);
+  }
+
+  @Test
+  void boardPagesEachColumnWithItsOwnCursor() {
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    TagService tagService = Mockito.mock(TagService.class);
+    IssueBoardRepository boardRepository = Mockito.mock(IssueBoardRepository.class);
+    IssueQueryService service = new IssueQueryService(
+        Mockito.mock(IssueRepository.class),
+        Mockito.mock(IssueTagRepository.class),
+        Mockito.mock(ProjectAccessService.class),
+        referenceData,
+        tagService,
+        Mockito.mock(ChangeTracker.class),
+        new PageCounter(16, 60),
+        Mockito.mock(IssueSearchRepository.class),
+        Mockito.mock(IssueTitleIndex.class),
+        boardRepository
+    );
+    when(referenceData.statusName((short) 1)).thenReturn("OPEN");
+    when(referenceData.statusName((short) 3)).thenReturn("CLOSED");
+    when(tagService.canonicalName(anyLong(), Mockito.anyString()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+    var noFilter = new IssueFilter(null, null, null, false, null, null, null, null, null, null, null, null, null);
+    when(boardRepository.findBoard(any())).thenReturn(List.of(
+        new BoardRow((short) 1, 7, row(9L), List.of(4L), List.of("ui")),
+        new BoardRow((short) 1, 7, row(6L), List.of(), List.of()),
+        new BoardRow((short) 1, 7, row(2L), List.of(), List.of()),
+        new BoardRow((short) 3, 0, null, List.of(), List.of())
+    ));
+
+    var board = service.board(1L, 5L, noFilter, List.of(), 2);
+
+    assertThat(board.columns()).extracting("status").containsExactly("OPEN", "CLOSED");
+    var open = board.columns().get(0);
+    assertThat(open.total()).isEqualTo(7);
+    assertThat(open.items()).extracting(IssueDto::id).containsExactly(9L, 6L);
+    assertThat(open.items().get(0).tags()).containsExactly("ui");
+    assertThat(board.columns().get(1).items()).isEmpty();
+    assertThat(board.columns().get(1).nextCursor()).isNull();
+
+    service.board(1L, 5L, noFilter, List.of(open.nextCursor()), 2);
+    ArgumentCaptor<BoardQuery> captor = ArgumentCaptor.forClass(BoardQuery.class);
+    verify(boardRepository, times(2)).findBoard(captor.capture());
+    assertThat(captor.getAllValues().get(0).starts()).isEmpty();
+    assertThat(captor.getAllValues().get(0).limit()).isEqualTo(3);
+    assertThat(captor.getAllValues().get(1).starts())
+        .containsExactly(new ColumnStart((short) 1, row(6L).updatedAt(), 6L));
+  }
+
+  @Test
+  void boardRejectsACursorForAnUnknownStatus() {
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    IssueBoardRepository boardRepository = Mockito.mock(IssueBoardRepository.class);
+    IssueQueryService service = new IssueQueryService(
+        Mockito.mock(IssueRepository.class),
+        Mockito.mock(IssueTagRepository.class),
+        Mockito.mock(ProjectAccessService.class),
+        referenceData,
+        Mockito.mock(TagService.class),
+        Mockito.mock(ChangeTracker.class),
+        new PageCounter(16, 60),
+        Mockito.mock(IssueSearchRepository.class),
+        Mockito.mock(IssueTitleIndex.class),
+        boardRepository
+    );
+    when(referenceData.statusName((short) 1)).thenReturn("OPEN");
+    var noFilter = new IssueFilter(null, null, null, false, null, null, null, null, null, null, null, null, null);
+    var stale = new BoardCursor((short) 42, Instant.parse("2024-01-01T00:00:00Z"), 6L).encode();
+
+    assertThatThrownBy(() -> service.board(1L, 5L, noFilter, List.of(stale), 2))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid cursor");
+    verifyNoInteractions(boardRepository);
+  }
+
+  private static IssueListRow row(long id) {
+    return new IssueListRow(
+        id,
+        5L,
+        "ISS",
+        (int) id,
+        "Issue " + id,
+        (short) 1,
+        (short) 2,
+        1L,
+        null,
+        Instant.parse("2024-01-01T00:00:00Z"),
+        Instant.parse("2024-01-01T00:00:00Z")
+    );
+  }
+}
+
@@ -7,9 +7,12 @@ package com.isstrack.issue_tracker.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.isstrack.issue_tracker.api.dto.CreateIssueRequest;
 import com.isstrack.issue_tracker.api.dto.PatchIssueRequest;
 import com.isstrack.issue_tracker.api.error.BadRequestException;
 import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
@@ -17,15 +20,18 @@ import com.isstrack.issue_tracker.persistence.entity.IssueEntity;
 import com.isstrack.issue_tracker.persistence.entity.PriorityEntity;
 import com.isstrack.issue_tracker.persistence.entity.ProjectEntity;
 import com.isstrack.issue_tracker.persistence.entity.StatusEntity;
+import com.isstrack.issue_tracker.persistence.entity.TagEntity;
 import com.isstrack.issue_tracker.persistence.entity.UserEntity;
+import com.isstrack.issue_tracker.persistence.repo.IssueBatchRepository;
 import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
 import com.isstrack.issue_tracker.persistence.repo.IssueTagRepository;
-import com.isstrack.issue_tracker.persistence.repo.PriorityRepository;
 import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
 import com.isstrack.issue_tracker.persistence.repo.ProjectRepository;
-import com.isstrack.issue_tracker.persistence.repo.StatusRepository;
 import com.isstrack.issue_tracker.persistence.repo.UserRepository;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -37,8 +43,7 @@ class IssueServiceTest {
     IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
     IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
     ProjectRepository projectRepository = Mockito.mock(ProjectRepository.class);
-    StatusRepository statusRepository = Mockito.mock(StatusRepository.class);
-    PriorityRepository priorityRepository = Mockito.mock(PriorityRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
     UserRepository userRepository = Mockito.mock(UserRepository.class);
     ProjectMembershipRepository membershipRepository = Mockito.mock(ProjectMembershipRepository.class);
     ProjectAccessService accessService = Mockito.mock(ProjectAccessService.class);
@@ -46,20 +51,25 @@ class IssueServiceTest {
     ActivityService activityService = Mockito.mock(ActivityService.class);
     ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
     NotificationService notificationService = Mockito.mock(NotificationService.class);
+    IssueNumberAllocator issueNumberAllocator = Mockito.mock(IssueNumberAllocator.class);
+    IssueBatchRepository issueBatchRepository = Mockito.mock(IssueBatchRepository.class);
+    IssueStatsService issueStats = Mockito.mock(IssueStatsService.class);
 
     IssueService service = new IssueService(
         issueRepository,
         issueTagRepository,
         projectRepository,
-        statusRepository,
-        priorityRepository,
+        referenceData,
         userRepository,
         membershipRepository,
         accessService,
         tagService,
         activityService,
         publisher,
-        notificationService
+        notificationService,
+        issueNumberAllocator,
+        issueBatchRepository,
+        issueStats
     );
 
     when(userRepository.existsById(55L)).thenReturn(true);
@@ -76,8 +86,7 @@ class IssueServiceTest {
     IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
     IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
     ProjectRepository projectRepository = Mockito.mock(ProjectRepository.class);
-    StatusRepository statusRepository = Mockito.mock(StatusRepository.class);
-    PriorityRepository priorityRepository = Mockito.mock(PriorityRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
     UserRepository userRepository = Mockito.mock(UserRepository.class);
     ProjectMembershipRepository membershipRepository = Mockito.mock(ProjectMembershipRepository.class);
     ProjectAccessService accessService = Mockito.mock(ProjectAccessService.class);
@@ -85,27 +94,34 @@ class IssueServiceTest {
     ActivityService activityService = Mockito.mock(ActivityService.class);
     ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
     NotificationService notificationService = Mockito.mock(NotificationService.class);
+    IssueNumberAllocator issueNumberAllocator = Mockito.mock(IssueNumberAllocator.class);
+    IssueBatchRepository issueBatchRepository = Mockito.mock(IssueBatchRepository.class);
+    IssueStatsService issueStats = Mockito.mock(IssueStatsService.class);
 
     IssueService service = new IssueService(
         issueRepository,
         issueTagRepository,
         projectRepository,
-        statusRepository,
-        priorityRepository,
+        referenceData,
         userRepository,
         membershipRepository,
         accessService,
         tagService,
         activityService,
         publisher,
-        notificationService
+        notificationService,
+        issueNumberAllocator,
+        issueBatchRepository,
+        issueStats
     );
 
     var project = new ProjectEntity();
     project.setId(10L);
     var status = new StatusEntity();
+    status.setStatusId((short) 1);
     status.setName("OPEN");
     var priority = new PriorityEntity();
+    priority.setPriorityId((short) 1);
     priority.setName("LOW");
     var issue = new IssueEntity();
     issue.setId(1L);
@@ -122,9 +138,10 @@ class IssueServiceTest {
     when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
     when(userRepository.findById(99L)).thenReturn(Optional.of(actor));
     StatusEntity inProgress = new StatusEntity();
-    inProgress.setName("IN_PROGRESS");
-    when(statusRepository.findByNameIgnoreCase("IN_PROGRESS"))
-        .thenReturn(Optional.of(inProgress));
+    inProgress.setStatusId((short) 2);
+    when(referenceData.statusId("IN_PROGRESS")).thenReturn(Optional.of((short) 2));
+    when(referenceData.statusReference((short) 2)).thenReturn(inProgress);
+    when(referenceData.statusName((short) 2)).thenReturn("IN_PROGRESS");
     when(issueRepository.save(issue)).thenReturn(issue);
 
     PatchIssueRequest request = new PatchIssueRequest(null, null, "IN_PROGRESS", null, null, null, null);
@@ -133,6 +150,155 @@ class IssueServiceTest {
     verify(activityService).logActivity(issue, actor, "Status changed to IN_PROGRESS");
     ArgumentCaptor<IssueUpdatedEvent> captor = ArgumentCaptor.forClass(IssueUpdatedEvent.class);
     verify(publisher).publishEvent(captor.capture());
+    verify(issueStats).issueChanged(
+        10L,
+        new IssueStatsService.IssueFacets((short) 1, (short) 1, null),
+        new IssueStatsService.IssueFacets((short) 2, (short) 1, null)
+    );
+  }
+
+  @Test
+  void updateIssueTagsAppliesOnlyTheDiff() {
+    IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+    IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
+    ProjectRepository projectRepository = Mockito.mock(ProjectRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    UserRepository userRepository = Mockito.mock(UserRepository.class);
+    ProjectMembershipRepository membershipRepository = Mockito.mock(ProjectMembershipRepository.class);
+    ProjectAccessService accessService = Mockito.mock(ProjectAccessService.class);
+    TagService tagService = Mockito.mock(TagService.class);
+    ActivityService activityService = Mockito.mock(ActivityService.class);
+    ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
+    NotificationService notificationService = Mockito.mock(NotificationService.class);
+    IssueNumberAllocator issueNumberAllocator = Mockito.mock(IssueNumberAllocator.class);
+    IssueBatchRepository issueBatchRepository = Mockito.mock(IssueBatchRepository.class);
+    IssueStatsService issueStats = Mockito.mock(IssueStatsService.class);
+
+    IssueService service = new IssueService(
+        issueRepository,
+        issueTagRepository,
+        projectRepository,
+        referenceData,
+        userRepository,
+        membershipRepository,
+        accessService,
+        tagService,
+        activityService,
+        publisher,
+        notificationService,
+        issueNumberAllocator,
+        issueBatchRepository,
+        issueStats
+    );
+
+    var project = new ProjectEntity();
+    project.setId(10L);
+    var issue = new IssueEntity();
+    issue.setId(1L);
+    issue.setProject(project);
+    var status = new StatusEntity();
+    status.setStatusId((short) 1);
+    issue.setStatus(status);
+    var priority = new PriorityEntity();
+    priority.setPriorityId((short) 1);
+    issue.setPriority(priority);
+    var owner = new UserEntity();
+    owner.setId(50L);
+    issue.setOwner(owner);
+    var actor = new UserEntity();
+    actor.setId(99L);
+    when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+    when(userRepository.findById(99L)).thenReturn(Optional.of(actor));
+    when(issueRepository.save(issue)).thenReturn(issue);
+    when(issueTagRepository.findIssueTagsByIssueIds(List.of(1L))).thenReturn(List.of(
+        new Object[] {1L, "bug", 8L},
+        new Object[] {1L, "backend", 7L}
+    ));
+    when(tagService.canonicalName(Mockito.anyLong(), Mockito.anyString()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+
+    when(tagService.normalize(List.of("Bug", "backend"))).thenReturn(Set.of("bug", "backend"));
+    var unchanged = service.updateIssue(99L, 1L, new PatchIssueRequest(null, null, null, null, null, null, List.of("Bug", "backend")));
+    assertEquals(List.of("backend", "bug"), unchanged.tags());
+    verify(tagService, never()).resolve(Mockito.anyCollection());
+    verifyNoInteractions(activityService, publisher, issueBatchRepository);
+
+    when(tagService.normalize(List.of("bug", "ui"))).thenReturn(Set.of("bug", "ui"));
+    when(tagService.resolve(Set.of("bug", "ui"))).thenReturn(Map.of("bug", tag(8L, "bug"), "ui", tag(9L, "ui")));
+    var changed = service.updateIssue(99L, 1L, new PatchIssueRequest(null, null, null, null, null, null, List.of("bug", "ui")));
+    assertEquals(List.of("bug", "ui"), changed.tags());
+    verify(issueTagRepository).deleteByIssueIdAndTagIds(1L, List.of(7L));
+    verify(issueBatchRepository).insertIssueTags(List.of(new IssueBatchRepository.IssueTagRow(1L, 9L)));
+    verify(activityService).logActivity(issue, actor, "Tags updated");
+    verify(publisher).publishEvent(Mockito.any(IssueUpdatedEvent.class));
+  }
+
+  @Test
+  void createIssueWritesItsTagsWithOneBatchInsert() {
+    IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+    IssueTagRepository issueTagRepository = Mockito.mock(IssueTagRepository.class);
+    ProjectRepository projectRepository = Mockito.mock(ProjectRepository.class);
+    ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+    UserRepository userRepository = Mockito.mock(UserRepository.class);
+    TagService tagService = Mockito.mock(TagService.class);
+    IssueNumberAllocator issueNumberAllocator = Mockito.mock(IssueNumberAllocator.class);
+    IssueBatchRepository issueBatchRepository = Mockito.mock(IssueBatchRepository.class);
+
+    IssueService service = new IssueService(
+        issueRepository,
+        issueTagRepository,
+        projectRepository,
+        referenceData,
+        userRepository,
+        Mockito.mock(ProjectMembershipRepository.class),
+        Mockito.mock(ProjectAccessService.class),
+        tagService,
+        Mockito.mock(ActivityService.class),
+        Mockito.mock(ApplicationEventPublisher.class),
+        Mockito.mock(NotificationService.class),
+        issueNumberAllocator,
+        issueBatchRepository,
+        Mockito.mock(IssueStatsService.class)
+    );
+
+    var project = new ProjectEntity();
+    project.setId(10L);
+    project.setPrefix("ISS");
+    var owner = new UserEntity();
+    owner.setId(50L);
+    var status = new StatusEntity();
+    status.setStatusId((short) 1);
+    var priority = new PriorityEntity();
+    priority.setPriorityId((short) 2);
+    when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+    when(userRepository.findById(50L)).thenReturn(Optional.of(owner));
+    when(referenceData.statusId("OPEN")).thenReturn(Optional.of((short) 1));
+    when(referenceData.statusReference((short) 1)).thenReturn(status);
+    when(referenceData.priorityId("HIGH")).thenReturn(Optional.of((short) 2));
+    when(referenceData.priorityReference((short) 2)).thenReturn(priority);
+    when(issueNumberAllocator.nextNumber(10L)).thenReturn(1);
+    when(issueRepository.save(Mockito.any(IssueEntity.class))).thenAnswer(invocation -> {
+      IssueEntity saved = invocation.getArgument(0);
+      saved.setId(1L);
+      return saved;
+    });
+    when(tagService.normalizeAndSave(List.of("ui", "backend"))).thenReturn(List.of(tag(9L, "ui"), tag(7L, "backend")));
+
+    var created = service.createIssue(50L, 10L, new CreateIssueRequest("Title", null, "HIGH", null, List.of("ui", "backend")));
+
+    assertEquals(List.of("backend", "ui"), created.tags());
+    verify(issueBatchRepository).insertIssueTags(List.of(
+        new IssueBatchRepository.IssueTagRow(1L, 7L),
+        new IssueBatchRepository.IssueTagRow(1L, 9L)
+    ));
+    verifyNoInteractions(issueTagRepository);
+  }
+
+  private static TagEntity tag(long id, String name) {
+    var tag = new TagEntity();
+    tag.setId(id);
+    tag.setName(name);
+    return tag;
   }
 }
 
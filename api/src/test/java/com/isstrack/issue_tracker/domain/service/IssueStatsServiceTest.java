@@ -0,0 +1,96 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.domain.service.IssueStatsService.IssueFacets;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository.Facet;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository.StatDelta;
+import com.isstrack.issue_tracker.persistence.repo.ProjectIssueStatsRepository.StatRow;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class IssueStatsServiceTest {
+  private final ProjectIssueStatsRepository statsRepository = Mockito.mock(ProjectIssueStatsRepository.class);
+  private final ReferenceDataRegistry referenceData = Mockito.mock(ReferenceDataRegistry.class);
+  private final IssueStatsService service = new IssueStatsService(
+      statsRepository,
+      Mockito.mock(ProjectAccessService.class),
+      referenceData,
+      Mockito.mock(ChangeTracker.class)
+  );
+
+  @Test
+  void bulkCreateCollapsesIntoOneDeltaPerCounter() {
+    service.issuesCreated(7L, List.of(
+        new IssueFacets((short) 1, (short) 2, null),
+        new IssueFacets((short) 1, (short) 3, 40L),
+        new IssueFacets((short) 1, (short) 2, 40L)
+    ));
+
+    verify(statsRepository).applyDeltas(7L, List.of(
+        new StatDelta(Facet.STATUS, 1, 3),
+        new StatDelta(Facet.PRIORITY, 2, 2),
+        new StatDelta(Facet.PRIORITY, 3, 1),
+        new StatDelta(Facet.ASSIGNEE, 0, 1),
+        new StatDelta(Facet.ASSIGNEE, 40, 2)
+    ));
+  }
+
+  @Test
+  void changeMovesOnlyTheFacetsThatDiffer() {
+    service.issueChanged(
+        7L,
+        new IssueFacets((short) 1, (short) 2, 40L),
+        new IssueFacets((short) 4, (short) 2, null)
+    );
+
+    verify(statsRepository).applyDeltas(7L, List.of(
+        new StatDelta(Facet.STATUS, 1, -1),
+        new StatDelta(Facet.STATUS, 4, 1),
+        new StatDelta(Facet.ASSIGNEE, 0, 1),
+        new StatDelta(Facet.ASSIGNEE, 40, -1)
+    ));
+  }
+
+  @Test
+  void unchangedFacetsWriteNothing() {
+    var facets = new IssueFacets((short) 1, (short) 2, 40L);
+    service.issueChanged(7L, facets, facets);
+
+    verifyNoInteractions(statsRepository);
+  }
+
+  @Test
+  void statsAreReadFromTheRollup() {
+    when(statsRepository.findByProjectId(7L)).thenReturn(List.of(
+        new StatRow(Facet.ASSIGNEE, 0, 2),
+        new StatRow(Facet.ASSIGNEE, 40, 3),
+        new StatRow(Facet.PRIORITY, 2, 5),
+        new StatRow(Facet.STATUS, 1, 4),
+        new StatRow(Facet.STATUS, 4, 1)
+    ));
+    when(referenceData.statusName((short) 1)).thenReturn("OPEN");
+    when(referenceData.statusName((short) 4)).thenReturn("CLOSED");
+    when(referenceData.priorityName((short) 2)).thenReturn("MEDIUM");
+
+    var stats = service.stats(1L, 7L);
+
+    assertThat(stats.total()).isEqualTo(5);
+    assertThat(stats.byStatus()).isEqualTo(Map.of("OPEN", 4L, "CLOSED", 1L));
+    assertThat(stats.byPriority()).isEqualTo(Map.of("MEDIUM", 5L));
+    assertThat(stats.byAssignee()).isEqualTo(Map.of(40L, 3L));
+    assertThat(stats.unassigned()).isEqualTo(2);
+  }
+}
+
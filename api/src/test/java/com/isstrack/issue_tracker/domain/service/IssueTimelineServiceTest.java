@@ -0,0 +1,117 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.dto.TimelineEntryDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository.IssueVersionView;
+import com.isstrack.issue_tracker.persistence.repo.IssueTimelineRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueTimelineRepository.Kind;
+import com.isstrack.issue_tracker.persistence.repo.IssueTimelineRepository.TimelineRow;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class IssueTimelineServiceTest {
+  private static final Instant T0 = Instant.parse("2024-05-01T10:00:00.123456Z");
+
+  private final IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+  private final IssueTimelineRepository timelineRepository = Mockito.mock(IssueTimelineRepository.class);
+  private final IssueTimelineService service = new IssueTimelineService(
+      issueRepository,
+      timelineRepository,
+      Mockito.mock(ProjectAccessService.class)
+  );
+
+  @BeforeEach
+  void issueExists() {
+    when(issueRepository.findVersionById(9L)).thenReturn(Optional.of(new IssueVersionView() {
+      @Override
+      public Long getProjectId() {
+        return 5L;
+      }
+
+      @Override
+      public int getVersion() {
+        return 0;
+      }
+    }));
+  }
+
+  @Test
+  void olderPagesFollowTheCursorOfTheLastEntry() {
+    var newest = row(Kind.COMMENT, 12L, 30);
+    var middle = row(Kind.ACTIVITY, 40L, 20);
+    var extra = row(Kind.COMMENT, 11L, 10);
+    when(timelineRepository.findEntries(9L, null, false, 3)).thenReturn(List.of(newest, middle, extra));
+
+    var page = service.timeline(1L, 9L, null, null, 2);
+
+    assertThat(page.items()).extracting(TimelineEntryDto::type).containsExactly("COMMENT", "ACTIVITY");
+    assertThat(page.hasNext()).isTrue();
+    assertThat(page.totalElements()).isEqualTo(-1);
+    assertThat(TimelineCursor.decode(page.nextCursor()).seq()).isEqualTo(middle.seq());
+    assertThat(TimelineCursor.decode(page.prevCursor()).seq()).isEqualTo(newest.seq());
+
+    when(timelineRepository.findEntries(eq(9L), any(), eq(false), eq(3))).thenReturn(List.of(extra));
+    var older = service.timeline(1L, 9L, page.nextCursor(), null, 2);
+    verify(timelineRepository).findEntries(9L, middle.seq(), false, 3);
+    assertThat(older.hasNext()).isFalse();
+    assertThat(older.nextCursor()).isNull();
+  }
+
+  @Test
+  void sinceReturnsOnlyNewerEntriesAndAWatermark() {
+    var seen = new TimelineCursor(row(Kind.COMMENT, 12L, 30).seq()).encode();
+    var fresh = row(Kind.ACTIVITY, 41L, 40);
+    when(timelineRepository.findEntries(anyLong(), any(), anyBoolean(), anyInt())).thenReturn(List.of(fresh));
+
+    var page = service.timeline(1L, 9L, null, seen, 20);
+
+    verify(timelineRepository).findEntries(9L, 30L, true, 21);
+    assertThat(page.items()).extracting(TimelineEntryDto::id).containsExactly(41L);
+    assertThat(TimelineCursor.decode(page.nextCursor()).seq()).isEqualTo(fresh.seq());
+
+    when(timelineRepository.findEntries(anyLong(), any(), anyBoolean(), anyInt())).thenReturn(List.of());
+    assertThat(service.timeline(1L, 9L, null, page.nextCursor(), 20).nextCursor()).isEqualTo(page.nextCursor());
+  }
+
+  @Test
+  void emptySinceStartsFromTheBeginning() {
+    when(timelineRepository.findEntries(anyLong(), any(), anyBoolean(), anyInt())).thenReturn(List.of());
+
+    service.timeline(1L, 9L, null, "", 20);
+
+    verify(timelineRepository).findEntries(eq(9L), isNull(), eq(true), eq(21));
+  }
+
+  @Test
+  void cursorAndSinceAreExclusive() {
+    assertThatThrownBy(() -> service.timeline(1L, 9L, "a", "b", 20)).isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> service.timeline(1L, 9L, "not-a-cursor", null, 20))
+        .isInstanceOf(BadRequestException.class);
+  }
+
+  private static TimelineRow row(Kind kind, long id, int seq) {
+    return new TimelineRow(kind, id, 1L, kind + " " + id, T0.plusSeconds(seq), seq);
+  }
+}
+
@@ -0,0 +1,123 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.dto.IssueDto;
+import com.isstrack.issue_tracker.api.dto.IssueSuggestionDto;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository;
+import com.isstrack.issue_tracker.persistence.repo.IssueRepository.IssueSuggestionView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class IssueTitleIndexTest {
+  private final IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+
+  @Test
+  void answersPrefixAndKeyQueriesFromMemoryAndFollowsUpdates() {
+    when(issueRepository.findSuggestionsByProjectId(1L)).thenReturn(List.of(
+        row(10L, 1, "Login crash on Safari"),
+        row(11L, 2, "Logout button misaligned"),
+        row(12L, 12, "Crash when saving a draft")
+    ));
+    var index = new IssueTitleIndex(issueRepository, new SimpleMeterRegistry(), 1 << 20, Runnable::run);
+
+    assertThat(titles(index.suggest(1L, "crash", 10).orElseThrow()))
+        .containsExactly("Crash when saving a draft", "Login crash on Safari");
+    assertThat(titles(index.suggest(1L, "log cr", 10).orElseThrow())).containsExactly("Login crash on Safari");
+    assertThat(index.suggest(1L, "ISS-01", 10).orElseThrow()).extracting(IssueSuggestionDto::issueKey)
+        .containsExactly("ISS-012");
+
+    index.onEvent(new IssueUpdatedEvent(1L, 11L, issue(11L, "ISS-002", "Sign-out button misaligned"), Instant.now()));
+
+    assertThat(index.suggest(1L, "logout", 10).orElseThrow()).isEmpty();
+    assertThat(titles(index.suggest(1L, "sign", 10).orElseThrow())).containsExactly("Sign-out button misaligned");
+    verify(issueRepository, times(1)).findSuggestionsByProjectId(1L);
+  }
+
+  @Test
+  void fallsBackUntilLoadedAndEvictsColdProjectsOverBudget() {
+    when(issueRepository.findSuggestionsByProjectId(1L)).thenReturn(List.of(row(10L, 1, "First project issue")));
+    when(issueRepository.findSuggestionsByProjectId(2L)).thenReturn(List.of(row(20L, 1, "Second project issue")));
+    List<Runnable> queued = new ArrayList<>();
+    Executor deferred = queued::add;
+    var index = new IssueTitleIndex(issueRepository, new SimpleMeterRegistry(), 1000, deferred);
+
+    assertThat(index.suggest(1L, "first", 10)).isEmpty();
+    queued.remove(0).run();
+    assertThat(index.suggest(1L, "first", 10)).isPresent();
+
+    assertThat(index.suggest(2L, "second", 10)).isEmpty();
+    queued.remove(0).run();
+
+    assertThat(index.isLoaded(2L)).isTrue();
+    assertThat(index.isLoaded(1L)).isFalse();
+  }
+
+  @Test
+  void projectLargerThanTheBudgetFallsBackToSqlWithoutReloading() {
+    List<IssueSuggestionView> rows = new ArrayList<>();
+    for (int i = 1; i <= 50; i++) {
+      rows.add(row(100L + i, i, "Large project issue number " + i));
+    }
+    when(issueRepository.findSuggestionsByProjectId(3L)).thenReturn(rows);
+    when(issueRepository.findSuggestionsByProjectId(1L)).thenReturn(List.of(row(10L, 1, "First project issue")));
+    var index = new IssueTitleIndex(issueRepository, new SimpleMeterRegistry(), 2000, Runnable::run);
+
+    assertThat(index.suggest(1L, "first", 10)).isPresent();
+    index.suggest(3L, "large", 10);
+    for (int i = 0; i < 5; i++) {
+      assertThat(index.suggest(3L, "large", 10)).isEmpty();
+    }
+
+    verify(issueRepository, times(1)).findSuggestionsByProjectId(3L);
+    assertThat(index.isOversized(3L)).isTrue();
+    assertThat(index.isLoaded(1L)).isTrue();
+  }
+
+  private static List<String> titles(List<IssueSuggestionDto> suggestions) {
+    return suggestions.stream().map(IssueSuggestionDto::title).toList();
+  }
+
+  private static IssueDto issue(long id, String key, String title) {
+    return new IssueDto(id, 1L, null, key, title, "OPEN", "LOW", 1L, null, List.of(), Instant.now());
+  }
+
+  private static IssueSuggestionView row(long id, int issueNumber, String title) {
+    return new IssueSuggestionView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public Integer getIssueNumber() {
+        return issueNumber;
+      }
+
+      @Override
+      public String getTitle() {
+        return title;
+      }
+
+      @Override
+      public String getPrefix() {
+        return "ISS";
+      }
+    };
+  }
+}
+
@@ -0,0 +1,67 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class PageCounterTest {
+  private final PageCounter counter = new PageCounter(
+      Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC),
+      16,
+      Duration.ofMinutes(1)
+  );
+
+  @Test
+  void exactUsesThePageTotalAndNoneSkipsTheCount() {
+    var pageable = PageRequest.of(0, 2);
+    var exact = counter.response(new PageImpl<>(List.of(1, 2), pageable, 5), List.of(1, 2), CountMode.EXACT, "k", () -> {
+      throw new AssertionError("count should come from the page");
+    });
+    var none = counter.response(new SliceImpl<>(List.of(1, 2), pageable, true), List.of(1, 2), CountMode.NONE, "k", () -> {
+      throw new AssertionError("count should be skipped");
+    });
+
+    assertThat(exact.totalElements()).isEqualTo(5);
+    assertThat(exact.totalPages()).isEqualTo(3);
+    assertThat(exact.hasNext()).isTrue();
+    assertThat(none.totalElements()).isEqualTo(-1);
+    assertThat(none.totalPages()).isEqualTo(-1);
+    assertThat(none.hasNext()).isTrue();
+  }
+
+  @Test
+  void estimateCachesTheCountAndStaysConsistentWithTheSlice() {
+    var counts = new AtomicInteger();
+    var firstPage = new SliceImpl<>(List.of(1, 2), PageRequest.of(0, 2), true);
+    var deepPage = new SliceImpl<>(List.of(1, 2), PageRequest.of(4, 2), true);
+    var lastPage = new SliceImpl<>(List.of(1), PageRequest.of(9, 2), false);
+
+    var first = counter.response(firstPage, List.of(1, 2), CountMode.ESTIMATE, "k", () -> {
+      counts.incrementAndGet();
+      return 7;
+    });
+    var deep = counter.response(deepPage, List.of(1, 2), CountMode.ESTIMATE, "k", counts::incrementAndGet);
+    var last = counter.response(lastPage, List.of(1), CountMode.ESTIMATE, "k", counts::incrementAndGet);
+
+    assertThat(counts.get()).isEqualTo(1);
+    assertThat(first.totalElements()).isEqualTo(7);
+    assertThat(deep.totalElements()).isEqualTo(11);
+    assertThat(last.totalElements()).isEqualTo(19);
+    assertThat(last.totalPages()).isEqualTo(10);
+  }
+}
+
@@ -0,0 +1,141 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class ParallelReadsTest {
+  private final ParallelReads reads = new ParallelReads(4, 2, 500, 10);
+
+  @AfterEach
+  void stop() {
+    reads.stop();
+  }
+
+  @Test
+  void runsTasksConcurrentlyUpToThePerRequestCap() {
+    var inFlight = new AtomicInteger();
+    var peak = new AtomicInteger();
+    var batch = reads.batch();
+    for (int i = 0; i < 5; i++) {
+      int value = i;
+      batch.fork(() -> {
+        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        inFlight.decrementAndGet();
+        return value;
+      });
+    }
+    var last = batch.fork(() -> "done");
+
+    batch.join();
+
+    assertThat(last.get()).isEqualTo("done");
+    assertThat(peak.get()).isEqualTo(2);
+  }
+
+  @Test
+  void failureCancelsTheTasksStillRunning() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+    var batch = reads.batch();
+    batch.fork(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(5_000);
+      } catch (InterruptedException ex) {
+        interrupted.countDown();
+      }
+      return null;
+    });
+    batch.fork(() -> {
+      started.await();
+      throw new IllegalArgumentException("boom");
+    });
+
+    assertThatThrownBy(batch::join).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void deadlineAbandonsSlowTasks() {
+    var ranLate = new AtomicBoolean();
+    var batch = reads.batch();
+    batch.fork(() -> {
+      Thread.sleep(5_000);
+      ranLate.set(true);
+      return null;
+    });
+
+    assertThatThrownBy(batch::join).isInstanceOf(QueryTimeoutException.class);
+    assertThat(ranLate).isFalse();
+  }
+
+  @Test
+  void workersAreCappedAtHalfTheConnectionPool() {
+    var small = new ParallelReads(4, 3, 500, 5);
+    try {
+      assertThat(small.workerCount()).isEqualTo(2);
+    } finally {
+      small.stop();
+    }
+  }
+
+  @Test
+  void tasksWithoutAnIdleWorkerRunOnTheCallingThread() {
+    var single = new ParallelReads(4, 3, 500, 2);
+    try {
+      var caller = Thread.currentThread();
+      var release = new CountDownLatch(1);
+      var batch = single.batch();
+      var first = batch.fork(() -> {
+        release.await(1, TimeUnit.SECONDS);
+        return Thread.currentThread();
+      });
+      var second = batch.fork(() -> {
+        release.countDown();
+        return Thread.currentThread();
+      });
+
+      batch.join();
+
+      assertThat(first.get()).isNotSameAs(caller);
+      assertThat(second.get()).isSameAs(caller);
+    } finally {
+      single.stop();
+    }
+  }
+
+  @Test
+  void deadlineAppliesToTasksRunOnTheCallingThread() {
+    var single = new ParallelReads(4, 3, 100, 2);
+    try {
+      var batch = single.batch();
+      batch.fork(() -> {
+        Thread.sleep(1_000);
+        return null;
+      });
+      batch.fork(() -> {
+        Thread.sleep(300);
+        return null;
+      });
+
+      assertThatThrownBy(batch::join).isInstanceOf(QueryTimeoutException.class);
+    } finally {
+      single.stop();
+    }
+  }
+}
+
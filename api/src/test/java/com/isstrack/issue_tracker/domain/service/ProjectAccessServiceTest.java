@@ -0,0 +1,58 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.error.ForbiddenException;
+import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ProjectAccessServiceTest {
+  @Test
+  void repeatedChecksAreServedFromCacheUntilInvalidated() {
+    ProjectMembershipRepository repository = Mockito.mock(ProjectMembershipRepository.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ProjectAccessService service = new ProjectAccessService(repository, registry, 100, 60);
+    when(repository.findRoleByProjectIdAndUserIdAndStatus(10L, 5L, "ACTIVE"))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of("MEMBER"));
+
+    assertThatThrownBy(() -> service.requireActiveMember(5L, 10L)).isInstanceOf(ForbiddenException.class);
+    assertThatThrownBy(() -> service.requireActiveMember(5L, 10L)).isInstanceOf(ForbiddenException.class);
+    verify(repository, times(1)).findRoleByProjectIdAndUserIdAndStatus(10L, 5L, "ACTIVE");
+
+    service.invalidate(5L, 10L);
+    service.requireActiveMember(5L, 10L);
+    service.requireActiveMember(5L, 10L);
+    assertThatThrownBy(() -> service.requireOwner(5L, 10L))
+        .isInstanceOf(ForbiddenException.class)
+        .hasMessage("Owner role required");
+    verify(repository, times(2)).findRoleByProjectIdAndUserIdAndStatus(10L, 5L, "ACTIVE");
+
+    assertThat(registry.get("access.membership.cache").tag("result", "hit").counter().count()).isEqualTo(3.0);
+    assertThat(registry.get("access.membership.cache").tag("result", "miss").counter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void expiredEntriesAreReloaded() {
+    ProjectMembershipRepository repository = Mockito.mock(ProjectMembershipRepository.class);
+    ProjectAccessService service = new ProjectAccessService(repository, new SimpleMeterRegistry(), 100, 0);
+    when(repository.findRoleByProjectIdAndUserIdAndStatus(10L, 5L, "ACTIVE")).thenReturn(Optional.of("OWNER"));
+
+    service.requireOwner(5L, 10L);
+    service.requireOwner(5L, 10L);
+    verify(repository, times(2)).findRoleByProjectIdAndUserIdAndStatus(10L, 5L, "ACTIVE");
+  }
+}
+
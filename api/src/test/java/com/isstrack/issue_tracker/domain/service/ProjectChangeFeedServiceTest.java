@@ -0,0 +1,94 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.dto.MembershipDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.entity.ProjectEntity;
+import com.isstrack.issue_tracker.persistence.entity.ProjectMembershipEntity;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository.ChangeRow;
+import com.isstrack.issue_tracker.persistence.repo.ProjectChangeRepository.Entity;
+import com.isstrack.issue_tracker.persistence.repo.ProjectMembershipRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ProjectChangeFeedServiceTest {
+  private final ProjectChangeRepository changeRepository = Mockito.mock(ProjectChangeRepository.class);
+  private final ProjectMembershipRepository membershipRepository = Mockito.mock(ProjectMembershipRepository.class);
+  private final IssueQueryService issueQueryService = Mockito.mock(IssueQueryService.class);
+  private final ProjectChangeFeedService service = new ProjectChangeFeedService(
+      changeRepository,
+      membershipRepository,
+      issueQueryService,
+      Mockito.mock(ProjectAccessService.class)
+  );
+
+  @Test
+  void withoutSinceOnlyTheCurrentWatermarkIsReturned() {
+    when(changeRepository.watermark(5L)).thenReturn(42L);
+
+    var changes = service.changes(1L, 5L, null, 100);
+
+    assertThat(changes.watermark()).isEqualTo(42L);
+    assertThat(changes.issues()).isEmpty();
+    verify(changeRepository, never()).findSince(anyLong(), anyLong(), Mockito.anyInt());
+  }
+
+  @Test
+  void changesAreSplitByEntityAndTheWatermarkAdvancesToTheLastRow() {
+    when(changeRepository.findSince(5L, 10L, 4)).thenReturn(List.of(
+        new ChangeRow(Entity.ISSUE, 7L, 11),
+        new ChangeRow(Entity.MEMBERSHIP, 3L, 12),
+        new ChangeRow(Entity.ISSUE, 8L, 13),
+        new ChangeRow(Entity.ISSUE, 9L, 14)
+    ));
+    when(membershipRepository.findAllById(List.of(3L))).thenReturn(List.of(membership(3L, 5L)));
+
+    var changes = service.changes(1L, 5L, 10L, 3);
+
+    verify(issueQueryService).issuesByIds(5L, List.of(7L, 8L));
+    assertThat(changes.memberships()).extracting(MembershipDto::id).containsExactly(3L);
+    assertThat(changes.hasMore()).isTrue();
+    assertThat(changes.watermark()).isEqualTo(13L);
+  }
+
+  @Test
+  void anEmptyFeedKeepsTheCallersWatermark() {
+    when(changeRepository.findSince(5L, 10L, 101)).thenReturn(List.of());
+
+    var changes = service.changes(1L, 5L, 10L, 100);
+
+    assertThat(changes.watermark()).isEqualTo(10L);
+    assertThat(changes.hasMore()).isFalse();
+    verify(membershipRepository, never()).findAllById(Mockito.any());
+  }
+
+  @Test
+  void negativeWatermarkIsRejected() {
+    assertThatThrownBy(() -> service.changes(1L, 5L, -1L, 100)).isInstanceOf(BadRequestException.class);
+  }
+
+  private static ProjectMembershipEntity membership(long id, long projectId) {
+    var project = new ProjectEntity();
+    project.setId(projectId);
+    var membership = new ProjectMembershipEntity();
+    membership.setId(id);
+    membership.setProject(project);
+    membership.setRole("MEMBER");
+    membership.setStatus("ACTIVE");
+    return membership;
+  }
+}
+
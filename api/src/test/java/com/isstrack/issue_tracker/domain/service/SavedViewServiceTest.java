@@ -0,0 +1,105 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.error.NotFoundException;
+import com.isstrack.issue_tracker.domain.event.IssueUpdatedEvent;
+import com.isstrack.issue_tracker.domain.model.IssueFilter;
+import com.isstrack.issue_tracker.persistence.entity.SavedViewEntity;
+import com.isstrack.issue_tracker.persistence.repo.SavedViewRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+class SavedViewServiceTest {
+  private final SavedViewRepository viewRepository = Mockito.mock(SavedViewRepository.class);
+  private final IssueQueryService issueQueryService = Mockito.mock(IssueQueryService.class);
+  private final ChangeTracker changeTracker = new ChangeTracker();
+  private final SavedViewCache cache = new SavedViewCache(16);
+  private final SavedViewService service = new SavedViewService(
+      viewRepository,
+      Mockito.mock(ProjectAccessService.class),
+      issueQueryService,
+      changeTracker,
+      cache,
+      new ObjectMapper().findAndRegisterModules()
+  );
+
+  @Test
+  void firstPageIsServedFromCacheUntilTheProjectChanges() {
+    when(viewRepository.findById(3L)).thenReturn(Optional.of(view()));
+    when(issueQueryService.listIssues(eq(1L), eq(5L), any(), any(), eq(CountMode.EXACT)))
+        .thenReturn(new PageResponse<>(List.of(), 0, 20, 0, 0));
+
+    service.openView(1L, 3L, 0, 20, CountMode.EXACT);
+    service.openView(1L, 3L, 0, 20, CountMode.EXACT);
+    verify(viewRepository, times(1)).findById(3L);
+    verify(issueQueryService, times(1)).listIssues(anyLong(), anyLong(), any(), any(), any());
+
+    var event = new IssueUpdatedEvent(5L, 9L, null, Instant.now());
+    changeTracker.onEvent(event);
+    cache.onEvent(event);
+    assertThat(cache.size()).isZero();
+    service.openView(1L, 3L, 0, 20, CountMode.EXACT);
+    verify(issueQueryService, times(2)).listIssues(anyLong(), anyLong(), any(), any(), any());
+  }
+
+  @Test
+  void viewRunsItsStoredFilterAndSort() {
+    when(viewRepository.findById(3L)).thenReturn(Optional.of(view()));
+    when(issueQueryService.listIssues(anyLong(), anyLong(), any(), any(), any()))
+        .thenReturn(new PageResponse<>(List.of(), 1, 20, 0, 0));
+
+    service.openView(1L, 3L, 1, 20, CountMode.NONE);
+    service.openView(1L, 3L, 1, 20, CountMode.NONE);
+
+    ArgumentCaptor<IssueFilter> filter = ArgumentCaptor.forClass(IssueFilter.class);
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(issueQueryService, times(2)).listIssues(eq(1L), eq(5L), filter.capture(), pageable.capture(), eq(CountMode.NONE));
+    assertThat(filter.getValue().statuses()).containsExactly("OPEN");
+    assertThat(filter.getValue().priorities()).containsExactly("CRITICAL");
+    assertThat(pageable.getValue().getSort().getOrderFor("createdAt").isAscending()).isTrue();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void otherUsersCannotOpenAView() {
+    when(viewRepository.findById(3L)).thenReturn(Optional.of(view()));
+    when(issueQueryService.listIssues(anyLong(), anyLong(), any(), any(), any()))
+        .thenReturn(new PageResponse<>(List.of(), 0, 20, 0, 0));
+    service.openView(1L, 3L, 0, 20, CountMode.EXACT);
+
+    assertThatThrownBy(() -> service.openView(2L, 3L, 0, 20, CountMode.EXACT))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  private static SavedViewEntity view() {
+    var view = new SavedViewEntity();
+    view.setId(3L);
+    view.setProjectId(5L);
+    view.setUserId(1L);
+    view.setName("My open criticals");
+    view.setFilter("{\"statuses\":[\"OPEN\"],\"priorities\":[\"CRITICAL\"],\"assigneeIds\":[1],\"tagMatch\":\"ANY\"}");
+    view.setSort("createdAt,asc");
+    return view;
+  }
+}
+
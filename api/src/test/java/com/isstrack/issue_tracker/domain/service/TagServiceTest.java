@@ -0,0 +1,69 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.repo.TagBatchRepository;
+import com.isstrack.issue_tracker.persistence.repo.TagBatchRepository.TagRow;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TagServiceTest {
+  @Test
+  void normalizeTrimsLowercasesAndCollapsesWhitespace() {
+    TagService service = new TagService(Mockito.mock(TagBatchRepository.class), 100);
+
+    assertThat(service.normalize(List.of("  Front\t End ", "front end", "API")))
+        .containsExactlyInAnyOrder("front end", "api");
+    assertThatThrownBy(() -> service.normalize(List.of("   ")))
+        .isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  void coldTagsCostTwoQueriesAndWarmTagsNone() {
+    TagBatchRepository repository = Mockito.mock(TagBatchRepository.class);
+    TagService service = new TagService(repository, 100);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      names.add("tag-" + i);
+    }
+    when(repository.insertMissing(anyCollection())).thenReturn(List.of(
+        new TagRow(1L, "tag-0"),
+        new TagRow(2L, "tag-1")
+    ));
+    when(repository.findByNames(anyCollection())).thenAnswer(invocation -> {
+      List<TagRow> rows = new ArrayList<>();
+      long id = 10;
+      for (String name : invocation.<List<String>>getArgument(0)) {
+        rows.add(new TagRow(id++, name));
+      }
+      return rows;
+    });
+
+    var cold = service.resolve(Set.copyOf(names));
+    assertThat(cold).hasSize(10);
+    verify(repository, times(1)).insertMissing(anyCollection());
+    verify(repository, times(1)).findByNames(anyCollection());
+
+    var warm = service.resolve(Set.copyOf(names));
+    assertThat(warm).hasSize(10);
+    assertThat(warm.get("tag-5").getId()).isEqualTo(cold.get("tag-5").getId());
+    assertThat(warm.get("tag-5").getName()).isSameAs(cold.get("tag-5").getName());
+    verifyNoMoreInteractions(repository);
+  }
+}
+
@@ -0,0 +1,137 @@
+/*
+ * Â© Arseniy Tomkevich. All rights reserved.
+ * Proprietary software. Unauthorized copying, modification,
+ * distribution, or commercial use is strictly prohibited.
+ */
+package com.isstrack.issue_tracker.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.isstrack.issue_tracker.api.dto.CommentDto;
+import com.isstrack.issue_tracker.api.dto.PageResponse;
+import com.isstrack.issue_tracker.api.dto.UserSummaryDto;
+import com.isstrack.issue_tracker.api.error.BadRequestException;
+import com.isstrack.issue_tracker.persistence.repo.UserRepository;
+import com.isstrack.issue_tracker.persistence.repo.UserRepository.UserSummaryView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class UserSummaryServiceTest {
+  private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+  private final UserSummaryService service = new UserSummaryService(userRepository, new SimpleMeterRegistry(), 100);
+
+  @Test
+  void pageOfCommentsResolvesItsAuthorsWithOneQuery() {
+    when(userRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+      Collection<Long> ids = invocation.getArgument(0);
+      return ids.stream().map(UserSummaryServiceTest::view).toList();
+    });
+    List<CommentDto> comments = new ArrayList<>();
+    for (long i = 0; i < 50; i++) {
+      comments.add(new CommentDto(i, 9L, 1 + i % 3, "Comment " + i, Instant.now()));
+    }
+    var page = new PageResponse<>(comments, 0, 50, 50, 1);
+
+    var embedded = service.withUsers(page, comment -> Stream.of(comment.authorUserId()));
+    service.withUsers(page, comment -> Stream.of(comment.authorUserId()));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+    verify(userRepository, times(1)).findSummariesByIdIn(ids.capture());
+    assertThat(ids.getValue()).containsExactly(1L, 2L, 3L);
+    assertThat(embedded.users()).containsOnlyKeys(1L, 2L, 3L);
+    assertThat(embedded.users().get(2L).username()).isEqualTo("user2");
+    assertThat(embedded.items()).isSameAs(comments);
+  }
+
+  @Test
+  void invalidatedUserIsReloadedAndChangesTheTag() {
+    when(userRepository.findSummariesByIdIn(anyCollection()))
+        .thenReturn(List.of(view(7L)))
+        .thenReturn(List.of(view(7L)));
+    service.summaries(List.of(7L));
+    String tag = service.usersTag("\"p1-0-0\"");
+
+    service.invalidate(7L);
+    service.summaries(List.of(7L));
+
+    verify(userRepository, times(2)).findSummariesByIdIn(anyCollection());
+    assertThat(service.usersTag("\"p1-0-0\"")).isNotEqualTo(tag).startsWith("\"p1-0-0-u").endsWith("\"");
+  }
+
+  @Test
+  void lookupKeepsRequestOrderAndCapsTheBatch() {
+    when(userRepository.findIdsSharingProjectWith(eq(1L), eq("ACTIVE"), anyCollection())).thenReturn(List.of(2L, 5L));
+    when(userRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(view(5L), view(2L)));
+
+    assertThat(service.lookup(1L, List.of(2L, 404L, 5L, 2L))).extracting(UserSummaryDto::id).containsExactly(2L, 5L);
+    var tooMany = LongStream.rangeClosed(1, UserSummaryService.MAX_IDS + 1).boxed().toList();
+    assertThatThrownBy(() -> service.lookup(1L, tooMany)).isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  void lookupLeavesOutUsersWhoShareNoProjectWithTheCaller() {
+    when(userRepository.findIdsSharingProjectWith(eq(1L), eq("ACTIVE"), anyCollection())).thenReturn(List.of(2L));
+    when(userRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+      Collection<Long> ids = invocation.getArgument(0);
+      return ids.stream().map(UserSummaryServiceTest::view).toList();
+    });
+
+    assertThat(service.lookup(1L, List.of(1L, 2L, 3L))).extracting(UserSummaryDto::id).containsExactly(1L, 2L);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+    verify(userRepository).findSummariesByIdIn(ids.capture());
+    assertThat(ids.getValue()).doesNotContain(3L);
+  }
+
+  @Test
+  void includeParameterIsMatchedCaseInsensitively() {
+    assertThat(UserSummaryService.includesUsers("Users")).isTrue();
+    assertThat(UserSummaryService.includesUsers("tags, users")).isTrue();
+    assertThat(UserSummaryService.includesUsers(null)).isFalse();
+  }
+
+  private static UserSummaryView view(long id) {
+    return new UserSummaryView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getUsername() {
+        return "user" + id;
+      }
+
+      @Override
+      public String getFirstName() {
+        return "First";
+      }
+
+      @Override
+      public String getLastName() {
+        return "Last";
+      }
+
+      @Override
+      public Boolean getActive() {
+        return true;
+      }
+    };
+  }
+}
+
@@ -647,6 +647,10 @@ export class IssueDetails implements OnInit, OnDestroy {
   }
 
   private handleIssueStreamPayload(payload: unknown): void {
+    if (Array.isArray(payload)) {
+      payload.forEach((item) => this.handleIssueStreamPayload(item))
+      return
+    }
     if (this.isCommentPayload(payload)) {
       this.handleRealtimeComment(payload)
       return